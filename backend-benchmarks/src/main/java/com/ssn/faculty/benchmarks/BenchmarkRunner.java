@@ -0,0 +1,23 @@
+package com.ssn.faculty.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar. Takes the usual JMH command line, but writes results as JSON
+ * (to jmh-result.json unless -rff says otherwise) so runs from different commits can be compared.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = Arrays.asList(args);
+        if (!arguments.contains("-rf")) {
+            String[] withFormat = Arrays.copyOf(new String[]{"-rf", "json"}, args.length + 2);
+            System.arraycopy(args, 0, withFormat, 2, args.length);
+            args = withFormat;
+        }
+        Main.main(args);
+    }
+}
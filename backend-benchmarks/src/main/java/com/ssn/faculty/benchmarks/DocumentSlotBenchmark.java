@@ -0,0 +1,42 @@
+package com.ssn.faculty.benchmarks;
+
+import com.ssn.faculty.entity.DocumentSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping uploaded file names to document slots, as done for every file of a multi-file upload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSlotBenchmark {
+
+    @Param({
+            // Prefixed by the edit page
+            "fdp_workshops_webinars_Certificates 2023.pdf",
+            // Keyword fallback
+            "My Aadhar Card (scanned).jpg",
+            // Nothing matches
+            "IMG_20240101_123456.jpg"
+    })
+    private String filename;
+
+    @Benchmark
+    public DocumentSlot fromUploadFilename() {
+        return DocumentSlot.fromUploadFilename(filename);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssn.faculty.benchmarks;
+
+import com.ssn.faculty.service.FileStorageService;
+import com.ssn.faculty.service.ThumbnailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Storing an upload: validation, signature check, SHA-256 and the copy into the upload directory.
+ * Files go to /dev/shm when it exists so the numbers reflect the code rather than the disk. Each
+ * stored file is deleted again in the same invocation to keep the tmpfs from filling up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileStorageBenchmark {
+
+    @Param({"65536", "1048576"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean compression;
+
+    private FileStorageService fileStorageService;
+
+    private MockMultipartFile upload;
+
+    private Path uploadDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path shm = Paths.get("/dev/shm");
+        uploadDir = Files.isDirectory(shm) && Files.isWritable(shm)
+                ? Files.createTempDirectory(shm, "faculty-bench-")
+                : Files.createTempDirectory("faculty-bench-");
+
+        fileStorageService = new FileStorageService();
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "maxFileSize", "10MB");
+        ReflectionTestUtils.setField(fileStorageService, "compressionEnabled", compression);
+        ReflectionTestUtils.setField(fileStorageService, "maxCompressionRatio", 0.8);
+        // Only consulted for images when deleting
+        ReflectionTestUtils.setField(fileStorageService, "thumbnailService", new ThumbnailService());
+
+        upload = new MockMultipartFile("files", "tenth_cert_marksheet.pdf", "application/pdf", pdfLike(size));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public String storeFile() {
+        String path = fileStorageService.storeFile(upload);
+        fileStorageService.deleteFile(path);
+        return path;
+    }
+
+    /**
+     * A PDF signature followed by text-like content, so compression has something to work with
+     */
+    private static byte[] pdfLike(int size) {
+        byte[] content = new byte[size];
+        byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, content, 0, header.length);
+        String alphabet = "BT /F1 12 Tf 72 712 Td (Certificate of completion) Tj ET\n";
+        Random random = new Random(42);
+        for (int i = header.length; i < size; i++) {
+            content[i] = random.nextInt(8) == 0
+                    ? (byte) random.nextInt(256)
+                    : (byte) alphabet.charAt(i % alphabet.length());
+        }
+        return content;
+    }
+}
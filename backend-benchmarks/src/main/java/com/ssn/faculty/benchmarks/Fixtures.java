@@ -0,0 +1,53 @@
+package com.ssn.faculty.benchmarks;
+
+import com.ssn.faculty.entity.DocumentSlot;
+import com.ssn.faculty.entity.FacultyProfile;
+import com.ssn.faculty.entity.ProfileDocument;
+import com.ssn.faculty.entity.Role;
+import com.ssn.faculty.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Realistic in-memory data for the benchmarks; nothing here touches a database
+ */
+public final class Fixtures {
+
+    private Fixtures() {}
+
+    /**
+     * A profile with its user and, if requested, every document slot filled in
+     */
+    public static FacultyProfile profile(long id, boolean withDocuments) {
+        User user = new User("faculty" + id + "@ssn.edu.in", "{bcrypt}$2a$10$abcdefghijklmnopqrstuv", "9876543210", Role.STAFF);
+        user.setId(id);
+
+        FacultyProfile profile = new FacultyProfile(user, "Dr. Faculty Member " + id);
+        profile.setId(id);
+        profile.setDepartment("Computer Science and Engineering");
+        profile.setRole("Associate Professor");
+        profile.setBio("Works on distributed systems and programming languages. ".repeat(8));
+        profile.setQualifications("B.E., M.E., Ph.D.");
+        profile.setDateOfJoining("2015-07-01");
+        profile.setExperience("12 years of teaching and 4 years of industry experience");
+        profile.setResearch("Distributed systems, compilers, performance engineering");
+        profile.setIsLocked(false);
+        profile.setEditRequested(false);
+        profile.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        if (withDocuments) {
+            for (DocumentSlot slot : DocumentSlot.values()) {
+                String extension = slot == DocumentSlot.PROFILE_PIC ? ".jpg" : ".pdf";
+                ProfileDocument document = new ProfileDocument(slot, "/uploads/" + UUID.randomUUID() + "-" + slot.getKey() + extension);
+                document.setSizeBytes(250_000L);
+                document.setSha256("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+                document.setContentType(slot == DocumentSlot.PROFILE_PIC ? "image/jpeg" : "application/pdf");
+                profile.putDocument(document);
+            }
+        }
+        // putDocument bumps updatedAt
+        profile.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+        return profile;
+    }
+}
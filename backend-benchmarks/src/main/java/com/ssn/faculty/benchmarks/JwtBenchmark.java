@@ -0,0 +1,56 @@
+package com.ssn.faculty.benchmarks;
+
+import com.ssn.faculty.security.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing at login and validation, which happens on every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        // Same as the application.yml defaults
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "your-very-secure-secret-key-1234567890-ssn-faculty-system");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86400000);
+        token = jwtUtils.generateTokenFromUsername("faculty1@ssn.edu.in");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateTokenFromUsername("faculty1@ssn.edu.in");
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String validateAndReadUsername() {
+        return jwtUtils.validateJwtToken(token) ? jwtUtils.getUserNameFromJwtToken(token) : null;
+    }
+}
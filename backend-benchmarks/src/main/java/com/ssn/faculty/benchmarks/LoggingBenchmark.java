@@ -0,0 +1,128 @@
+package com.ssn.faculty.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.util.Duration;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What logging costs the calling thread with the JSON file output of logback-spring.xml, written
+ * directly or handed to the ring-buffer appender, and what a disabled debug statement costs with
+ * and without string concatenation. Enabled logging is measured as a burst that fits in the ring
+ * buffer, drained between iterations, since a request logs a few lines rather than a steady flood.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final int BURST = 4096;
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    private final String profileName = "Dr. Faculty Member";
+    private final Long profileId = 4242L;
+    private final Path uploadPath = Path.of("/var/lib/faculty/uploads");
+
+    private Path dir;
+    private LoggerContext context;
+    private Logger logger;
+    private DrainableAppender async;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("logging-bench");
+        context = new LoggerContext();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(dir.resolve("server.log").toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> target = file;
+        if ("async".equals(appender)) {
+            async = new DrainableAppender();
+            async.setContext(context);
+            // Wait for space instead of dropping, so a full buffer would show up in the numbers
+            async.setAppendTimeout(Duration.buildByMilliseconds(-1));
+            async.addAppender(file);
+            async.start();
+            target = async;
+        }
+
+        logger = context.getLogger("com.ssn.faculty.service.FacultyProfileService");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(target);
+    }
+
+    @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+    public void drain() throws InterruptedException {
+        while (async != null && !async.drained()) {
+            Thread.sleep(1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5, batchSize = BURST)
+    @Measurement(iterations = 20, batchSize = BURST)
+    public void infoBurst() {
+        logger.info("Profile updated successfully: {} (ID: {})", profileName, profileId);
+    }
+
+    @Benchmark
+    public void disabledDebugParameterized() {
+        logger.debug("Upload directory: {}", uploadPath);
+    }
+
+    @Benchmark
+    public void disabledDebugConcatenated() {
+        logger.debug("Upload directory: " + uploadPath);
+    }
+
+    private static class DrainableAppender extends LoggingEventAsyncDisruptorAppender {
+        boolean drained() {
+            return isRingBufferEmpty();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ssn.faculty.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the HTML email bodies. Bulk imports build one registration email per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private EmailService emailService;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService();
+    }
+
+    @Benchmark
+    public String registration() {
+        return emailService.createRegistrationEmailContent("Dr. Faculty Member", "faculty@ssn.edu.in", "Xk3#pQ9!mW2z");
+    }
+
+    @Benchmark
+    public String editRequest() {
+        return emailService.createEditRequestEmailContent("Dr. Faculty Member", "faculty@ssn.edu.in", "Computer Science and Engineering");
+    }
+
+    @Benchmark
+    public String verification() {
+        return emailService.createVerificationEmailContent("Dr. Faculty Member",
+                "http://localhost:3000/verify-email?token=Q2hhbmdlIHRoaXMgdG9rZW4gdG8gc29tZXRoaW5nIHJhbmRvbQ");
+    }
+
+    @Benchmark
+    public String passwordReset() {
+        return emailService.createPasswordResetEmailContent("Dr. Faculty Member",
+                "http://localhost:3000/reset-password?token=Q2hhbmdlIHRoaXMgdG9rZW4gdG8gc29tZXRoaW5nIHJhbmRvbQ");
+    }
+}
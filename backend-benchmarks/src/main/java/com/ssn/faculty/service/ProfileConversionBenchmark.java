@@ -0,0 +1,48 @@
+package com.ssn.faculty.service;
+
+import com.ssn.faculty.benchmarks.Fixtures;
+import com.ssn.faculty.dto.FacultyProfileDto;
+import com.ssn.faculty.entity.FacultyProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO conversion, which runs for every profile in every listing
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProfileConversionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean withDocuments;
+
+    private FacultyProfileService service;
+
+    private FacultyProfile profile;
+
+    @Setup
+    public void setUp() {
+        service = new FacultyProfileService();
+        profile = Fixtures.profile(1, withDocuments);
+    }
+
+    @Benchmark
+    public FacultyProfileDto convertToDto() {
+        return service.convertToDto(profile);
+    }
+}
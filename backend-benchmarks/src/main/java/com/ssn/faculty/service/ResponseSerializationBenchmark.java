@@ -0,0 +1,78 @@
+package com.ssn.faculty.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ssn.faculty.benchmarks.Fixtures;
+import com.ssn.faculty.dto.FacultyProfileDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a page of profiles in each of the formats the API can respond with (see JacksonConfig)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int profiles;
+
+    private List<FacultyProfileDto> page;
+
+    private ObjectMapper json;
+
+    private ObjectMapper smile;
+
+    private ObjectMapper cbor;
+
+    @Setup
+    public void setUp() {
+        FacultyProfileService service = new FacultyProfileService();
+        page = new ArrayList<>(profiles);
+        for (int i = 1; i <= profiles; i++) {
+            page.add(service.convertToDto(Fixtures.profile(i, true)));
+        }
+        // As Spring Boot configures it
+        json = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        smile = json.copyWith(new SmileFactory());
+        cbor = json.copyWith(new CBORFactory());
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ssn.faculty.loadtest;
+
+import com.ssn.faculty.entity.DocumentSlot;
+import com.ssn.faculty.entity.FacultyProfile;
+import com.ssn.faculty.entity.ProfileDocument;
+import com.ssn.faculty.entity.Role;
+import com.ssn.faculty.entity.User;
+import com.ssn.faculty.loadtest.SeededData.SeededProfile;
+import com.ssn.faculty.repository.FacultyProfileRepository;
+import com.ssn.faculty.repository.UserRepository;
+import com.ssn.faculty.security.JwtUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Creates the users, profiles and document files for a run through the application's own
+ * repositories, so the rows look exactly like ones created through the API.
+ */
+public class DataSeeder {
+
+    private static final String PASSWORD = "loadtest-password";
+
+    private static final String[] DEPARTMENTS = {
+            "Computer Science and Engineering", "Information Technology", "Electronics and Communication Engineering",
+            "Electrical and Electronics Engineering", "Mechanical Engineering", "Civil Engineering", "Chemical Engineering"
+    };
+
+    private static final String[] DESIGNATIONS = {"Assistant Professor", "Associate Professor", "Professor"};
+
+    private static final int BATCH_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final FacultyProfileRepository profileRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtils jwtUtils;
+
+    public DataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.profileRepository = context.getBean(FacultyProfileRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.jwtUtils = context.getBean(JwtUtils.class);
+    }
+
+    public SeededData seed(LoadTestSettings settings, Path uploadDir) throws IOException {
+        byte[] content = documentContent(settings.documentKb() * 1024);
+        String sha256 = sha256(content);
+        // Hashed once: BCrypt is deliberately slow and every user gets the same password
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        List<DocumentSlot> slots = DocumentSlot.documents();
+
+        List<SeededProfile> seeded = new ArrayList<>(settings.profiles());
+        Random random = new Random(42);
+        for (int start = 0; start < settings.profiles(); start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, settings.profiles());
+            List<User> users = new ArrayList<>();
+            List<FacultyProfile> profiles = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                User user = new User("loadtest" + i + "@ssn.edu.in", encodedPassword, String.format("9%09d", i), Role.STAFF);
+                user.setIsActive(true);
+                user.setIsEmailVerified(true);
+                user.setIsApproved(true);
+                users.add(user);
+
+                FacultyProfile profile = new FacultyProfile(user, "Dr. Load Test " + i);
+                profile.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                profile.setRole(DESIGNATIONS[random.nextInt(DESIGNATIONS.length)]);
+                profile.setBio("Teaches and researches in " + profile.getDepartment() + ". Member of the faculty since 2015.");
+                profile.setQualifications("B.E., M.E., Ph.D.");
+                profile.setDateOfJoining("2015-07-01");
+                profile.setExperience((5 + random.nextInt(25)) + " years");
+                profile.setResearch("Distributed systems, machine learning, performance engineering");
+                profile.setIsLocked(false);
+                for (int d = 0; d < Math.min(settings.documentsPerProfile(), slots.size()); d++) {
+                    DocumentSlot slot = slots.get(d);
+                    String filename = UUID.randomUUID() + "-" + slot.getKey() + ".pdf";
+                    Files.write(uploadDir.resolve(filename), content);
+                    ProfileDocument document = new ProfileDocument(slot, "/uploads/" + filename);
+                    document.setSizeBytes((long) content.length);
+                    document.setSha256(sha256);
+                    document.setContentType("application/pdf");
+                    profile.putDocument(document);
+                }
+                profiles.add(profile);
+            }
+            userRepository.saveAll(users);
+            profileRepository.saveAll(profiles);
+
+            for (FacultyProfile profile : profiles) {
+                List<String> keys = profile.getDocuments().values().stream()
+                        .map(ProfileDocument::getStorageKey)
+                        .toList();
+                String email = profile.getUser().getEmail();
+                seeded.add(new SeededProfile(profile.getId(), email, jwtUtils.generateTokenFromUsername(email), keys));
+            }
+        }
+        return new SeededData(List.copyOf(seeded), PASSWORD);
+    }
+
+    /**
+     * Something that passes the upload signature check and compresses about as well as a real PDF
+     */
+    private static byte[] documentContent(int size) {
+        byte[] content = new byte[Math.max(size, 16)];
+        byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, content, 0, header.length);
+        String text = "BT /F1 12 Tf 72 712 Td (Certificate of completion) Tj ET\n";
+        Random random = new Random(7);
+        for (int i = header.length; i < content.length; i++) {
+            content[i] = random.nextInt(8) == 0 ? (byte) random.nextInt(256) : (byte) text.charAt(i % text.length());
+        }
+        return content;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ssn.faculty.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load: a fixed number of simulated users, each sending its next request as soon as
+ * the previous one completes, with the scenario drawn from the weighted mix. Latencies are only
+ * recorded after the warmup. Because users wait for their responses, throughput is what the
+ * server sustains at this concurrency and latencies do not include queueing a faster arrival
+ * rate would cause.
+ */
+public class LoadGenerator {
+
+    private final URI api;
+    private final SeededData data;
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final Scenario[] table;
+
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    public LoadGenerator(URI api, SeededData data, LoadTestSettings settings) {
+        this.api = api;
+        this.data = data;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // Weighted draw by indexing into a table with one entry per unit of weight
+        List<Scenario> entries = new ArrayList<>();
+        settings.mix().forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                entries.add(scenario);
+            }
+        });
+        this.table = entries.toArray(new Scenario[0]);
+        for (Scenario scenario : settings.mix().keySet()) {
+            // Microseconds, three significant digits, resized as needed
+            latencies.put(scenario, new ConcurrentHistogram(3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    public LoadReport run() throws InterruptedException {
+        List<Thread> users = new ArrayList<>(settings.concurrency());
+        for (int i = 0; i < settings.concurrency(); i++) {
+            Thread user = new Thread(this::simulateUser, "loadtest-user-" + i);
+            user.setDaemon(true);
+            user.start();
+            users.add(user);
+        }
+
+        Thread.sleep(settings.warmup().toMillis());
+        measuring = true;
+        long start = System.nanoTime();
+        Thread.sleep(settings.duration().toMillis());
+        measuring = false;
+        long elapsed = System.nanoTime() - start;
+        stopped = true;
+
+        for (Thread user : users) {
+            user.join(Duration.ofSeconds(30).toMillis());
+        }
+        return new LoadReport(settings, Duration.ofNanos(elapsed), latencies, errors);
+    }
+
+    private void simulateUser() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!stopped) {
+            Scenario scenario = table[random.nextInt(table.length)];
+            HttpRequest request = scenario.request(api, data, random);
+            boolean counted = measuring;
+            long begin = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failed = true;
+            }
+            long micros = (System.nanoTime() - begin) / 1000;
+            // Only requests that started and finished inside the measured window count
+            if (counted && measuring) {
+                latencies.get(scenario).recordValue(Math.max(micros, 1));
+                if (failed) {
+                    errors.get(scenario).increment();
+                }
+            }
+        }
+    }
+}
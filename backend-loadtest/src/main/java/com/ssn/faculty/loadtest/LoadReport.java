@@ -0,0 +1,75 @@
+package com.ssn.faculty.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency percentiles per endpoint, printed as a table and written as JSON
+ */
+public class LoadReport {
+
+    private final LoadTestSettings settings;
+    private final Duration elapsed;
+    private final List<EndpointStats> endpoints = new ArrayList<>();
+
+    LoadReport(LoadTestSettings settings, Duration elapsed, Map<Scenario, Histogram> latencies, Map<Scenario, LongAdder> errors) {
+        this.settings = settings;
+        this.elapsed = elapsed;
+        double seconds = elapsed.toNanos() / 1e9;
+        latencies.forEach((scenario, histogram) -> endpoints.add(new EndpointStats(
+                scenario.getEndpoint(),
+                histogram.getTotalCount(),
+                errors.get(scenario).sum(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()))));
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n%-28s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "Max ms");
+        long total = 0;
+        for (EndpointStats stats : endpoints) {
+            out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.endpoint(), stats.requests(), stats.errors(), stats.throughput(),
+                    stats.p50(), stats.p90(), stats.p99(), stats.p999(), stats.max());
+            total += stats.requests();
+        }
+        out.printf("%-28s %9d %7s %9.1f%n", "Total", total, "", total / (elapsed.toNanos() / 1e9));
+    }
+
+    public void write() throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("profiles", settings.profiles());
+        report.put("documentsPerProfile", settings.documentsPerProfile());
+        report.put("concurrency", settings.concurrency());
+        report.put("durationSeconds", elapsed.toNanos() / 1e9);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        settings.mix().forEach((scenario, weight) -> mix.put(scenario.name().toLowerCase(), weight));
+        report.put("mix", mix);
+        report.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(settings.report().toFile(), report);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    public record EndpointStats(String endpoint, long requests, long errors, double throughput,
+                                double p50, double p90, double p99, double p999, double max) {}
+}
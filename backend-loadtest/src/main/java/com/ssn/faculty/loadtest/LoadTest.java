@@ -0,0 +1,46 @@
+package com.ssn.faculty.loadtest;
+
+import com.ssn.faculty.FacultyProfileManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * End-to-end load test: starts PostgreSQL and SMTP locally, boots the backend on a random port,
+ * seeds it with users, profiles and documents, then drives the request mix over HTTP and reports
+ * throughput and latency percentiles per endpoint.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings;
+        try {
+            settings = LoadTestSettings.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try (LocalInfrastructure infrastructure = LocalInfrastructure.start(settings);
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(FacultyProfileManagementApplication.class)
+                     .run(infrastructure.applicationArguments())) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            URI api = URI.create("http://localhost:" + port + "/api/");
+
+            System.out.printf("Seeding %d profiles with %d documents each...%n", settings.profiles(), settings.documentsPerProfile());
+            SeededData data = new DataSeeder(app).seed(settings, infrastructure.getUploadDir());
+
+            System.out.printf("Running %s with %d users: %ds warmup, %ds measured%n", settings.mix(),
+                    settings.concurrency(), settings.warmup().toSeconds(), settings.duration().toSeconds());
+            LoadReport report = new LoadGenerator(api, data, settings).run();
+
+            report.print(System.out);
+            report.write();
+            System.out.printf("%nEmails captured by the SMTP sink: %d%nReport written to %s%n",
+                    infrastructure.getReceivedMessageCount(), settings.report().toAbsolutePath());
+        }
+    }
+}
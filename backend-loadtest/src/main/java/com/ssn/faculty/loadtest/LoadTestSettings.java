@@ -0,0 +1,104 @@
+package com.ssn.faculty.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of a load test run, given on the command line as --name=value
+ */
+public record LoadTestSettings(
+        int profiles,
+        int documentsPerProfile,
+        int documentKb,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        Path report) {
+
+    private static final Set<String> OPTIONS = Set.of("profiles", "documents", "document-kb", "concurrency",
+            "warmup", "duration", "mix", "jdbc-url", "jdbc-username", "jdbc-password", "report");
+
+    static final String USAGE = """
+            Options (all optional):
+              --profiles=200            faculty users/profiles to seed
+              --documents=3             documents per profile
+              --document-kb=64          size of each seeded document
+              --concurrency=32          concurrent simulated users
+              --warmup=10               seconds of load before measuring
+              --duration=60             seconds of measured load
+              --mix=browse:10,view:45,login:10,download:25,edit:10
+                                        relative weight of each scenario
+              --jdbc-url=...            use this PostgreSQL database instead of an embedded one
+              --jdbc-username=...       (it must be empty; the run creates its own data)
+              --jdbc-password=...
+              --report=loadtest-report.json
+            """;
+
+    public static LoadTestSettings parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg + "\n" + USAGE);
+            }
+            int eq = arg.indexOf('=');
+            String name = arg.substring(2, eq);
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option: --" + name + "\n" + USAGE);
+            }
+            options.put(name, arg.substring(eq + 1));
+        }
+
+        LoadTestSettings settings = new LoadTestSettings(
+                intOption(options, "profiles", 200),
+                intOption(options, "documents", 3),
+                intOption(options, "document-kb", 64),
+                intOption(options, "concurrency", 32),
+                Duration.ofSeconds(intOption(options, "warmup", 10)),
+                Duration.ofSeconds(intOption(options, "duration", 60)),
+                parseMix(options.getOrDefault("mix", "browse:10,view:45,login:10,download:25,edit:10")),
+                options.get("jdbc-url"),
+                options.getOrDefault("jdbc-username", "postgres"),
+                options.getOrDefault("jdbc-password", ""),
+                Paths.get(options.getOrDefault("report", "loadtest-report.json")));
+        if (settings.profiles() < 1 || settings.concurrency() < 1 || settings.duration().isZero()) {
+            throw new IllegalArgumentException("profiles, concurrency and duration must be positive");
+        }
+        return settings;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number: " + value);
+        }
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] entry = part.trim().split(":");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("--mix entries look like view:45, got: " + part);
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.fromName(entry[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix must give at least one scenario a positive weight");
+        }
+        return mix;
+    }
+}
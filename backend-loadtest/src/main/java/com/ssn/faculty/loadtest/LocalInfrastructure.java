@@ -0,0 +1,118 @@
+package com.ssn.faculty.loadtest;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Everything the backend needs from outside the JVM, started locally: PostgreSQL (embedded unless
+ * a JDBC URL is given), an SMTP server that accepts and keeps all mail, and a scratch upload
+ * directory. Closing it stops the servers and removes the scratch files.
+ */
+public class LocalInfrastructure implements AutoCloseable {
+
+    private final Path workDir;
+    private final EmbeddedPostgres postgres;
+    private final GreenMail smtp;
+    private final String jdbcUrl;
+    private final String jdbcUsername;
+    private final String jdbcPassword;
+
+    private LocalInfrastructure(Path workDir, EmbeddedPostgres postgres, GreenMail smtp,
+                                String jdbcUrl, String jdbcUsername, String jdbcPassword) {
+        this.workDir = workDir;
+        this.postgres = postgres;
+        this.smtp = smtp;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUsername = jdbcUsername;
+        this.jdbcPassword = jdbcPassword;
+    }
+
+    public static LocalInfrastructure start(LoadTestSettings settings) throws IOException {
+        Path workDir = Files.createTempDirectory("faculty-loadtest-");
+        EmbeddedPostgres postgres = null;
+        GreenMail smtp = null;
+        try {
+            String jdbcUrl = settings.jdbcUrl();
+            String username = settings.jdbcUsername();
+            String password = settings.jdbcPassword();
+            if (jdbcUrl == null) {
+                // Note that PostgreSQL refuses to run as root
+                postgres = EmbeddedPostgres.builder()
+                        .setDataDirectory(workDir.resolve("pgdata"))
+                        .setCleanDataDirectory(true)
+                        .setServerConfig("max_connections", "200")
+                        .start();
+                jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+                username = "postgres";
+                password = "";
+            }
+
+            smtp = new GreenMail(new ServerSetup(0, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+            smtp.start();
+
+            Files.createDirectories(workDir.resolve("uploads"));
+            return new LocalInfrastructure(workDir, postgres, smtp, jdbcUrl, username, password);
+        } catch (IOException | RuntimeException e) {
+            if (smtp != null) {
+                smtp.stop();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+            FileSystemUtils.deleteRecursively(workDir);
+            throw e;
+        }
+    }
+
+    public Path getUploadDir() {
+        return workDir.resolve("uploads");
+    }
+
+    /**
+     * Arguments that point the application at these servers instead of the ones in application.yml.
+     * Passed as command line arguments because those take precedence over the packaged config.
+     */
+    public String[] applicationArguments() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", jdbcUsername);
+        properties.put("spring.datasource.password", jdbcPassword);
+        properties.put("spring.mail.host", "127.0.0.1");
+        properties.put("spring.mail.port", smtp.getSmtp().getPort());
+        properties.put("spring.mail.properties.mail.smtp.auth", false);
+        properties.put("spring.mail.properties.mail.smtp.starttls.enable", false);
+        properties.put("file.upload-dir", getUploadDir().toString());
+        properties.put("logging.file.name", workDir.resolve("server.log").toString());
+        // Request logging at DEBUG would be measured along with everything else
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.ssn", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("app.storage.gc.enabled", false);
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    public int getReceivedMessageCount() {
+        return smtp.getReceivedMessages().length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        smtp.stop();
+        if (postgres != null) {
+            postgres.close();
+        }
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ssn.faculty.loadtest;
+
+import com.ssn.faculty.loadtest.SeededData.SeededProfile;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The kinds of request a simulated user makes. Each one is a single HTTP request against a
+ * randomly chosen seeded profile, and is reported as its own endpoint.
+ */
+public enum Scenario {
+
+    // Faculty directory page
+    BROWSE("GET /profiles") {
+        @Override
+        HttpRequest request(URI api, SeededData data, ThreadLocalRandom random) {
+            return get(api.resolve("profiles")).build();
+        }
+    },
+
+    // Someone opening a faculty member's page
+    VIEW("GET /profiles/{id}") {
+        @Override
+        HttpRequest request(URI api, SeededData data, ThreadLocalRandom random) {
+            return get(api.resolve("profiles/" + pick(data, random).id())).build();
+        }
+    },
+
+    // Everyone signing in at once, e.g. at the start of an appraisal window
+    LOGIN("POST /auth/login") {
+        @Override
+        HttpRequest request(URI api, SeededData data, ThreadLocalRandom random) {
+            String body = "{\"email\":\"" + pick(data, random).email() + "\",\"password\":\"" + data.password() + "\"}";
+            return HttpRequest.newBuilder(api.resolve("auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+
+    // Reviewers opening uploaded certificates
+    DOWNLOAD("GET /files/download/{key}") {
+        @Override
+        HttpRequest request(URI api, SeededData data, ThreadLocalRandom random) {
+            SeededProfile profile = pick(data, random);
+            if (profile.documentKeys().isEmpty()) {
+                return VIEW.request(api, data, random);
+            }
+            String key = profile.documentKeys().get(random.nextInt(profile.documentKeys().size()));
+            // Linked the way the profile page links it, without the /uploads/ prefix
+            return get(api.resolve("files/download/" + key.substring("/uploads/".length()))).build();
+        }
+    },
+
+    // A faculty member saving changes to their own profile
+    EDIT("PUT /profiles/{id}") {
+        @Override
+        HttpRequest request(URI api, SeededData data, ThreadLocalRandom random) {
+            SeededProfile profile = pick(data, random);
+            String boundary = "----loadtest" + Long.toHexString(random.nextLong());
+            String body = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"bio\"\r\n\r\n"
+                    + "Updated during a load test run at " + System.nanoTime() + "\r\n"
+                    + "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"research\"\r\n\r\n"
+                    + "Distributed systems, performance engineering\r\n"
+                    + "--" + boundary + "--\r\n";
+            return HttpRequest.newBuilder(api.resolve("profiles/" + profile.id()))
+                    .header("Authorization", "Bearer " + profile.token())
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .PUT(BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                    .build();
+        }
+    };
+
+    private final String endpoint;
+
+    Scenario(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    abstract HttpRequest request(URI api, SeededData data, ThreadLocalRandom random);
+
+    public static Scenario fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown scenario: " + name);
+        }
+    }
+
+    private static SeededProfile pick(SeededData data, ThreadLocalRandom random) {
+        return data.profiles().get(random.nextInt(data.profiles().size()));
+    }
+
+    private static HttpRequest.Builder get(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").GET();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssn.faculty.loadtest;
+
+import java.util.List;
+
+/**
+ * What the seeder created, for the scenarios to pick their targets from
+ *
+ * @param password the password shared by every seeded user
+ */
+public record SeededData(List<SeededProfile> profiles, String password) {
+
+    /**
+     * @param token a valid JWT for the profile's owner, so edits do not need a login first
+     */
+    public record SeededProfile(long id, String email, String token, List<String> documentKeys) {}
+}
@@ -5,14 +5,24 @@ import com.ssn.faculty.entity.User;
 import com.ssn.faculty.entity.FacultyProfile;
 import com.ssn.faculty.repository.UserRepository;
 import com.ssn.faculty.repository.FacultyProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * Creates the demo admin, a staff user and a sample profile in an empty database. Only active with
+ * the demo profile (included in dev), so production starts do not pay for the check.
+ */
 @Component
+@Profile("demo")
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -24,11 +34,9 @@ public class DataInitializer implements CommandLineRunner {
 
     @Override
     public void run(String... args) throws Exception {
-        System.out.println("DataInitializer: Starting data initialization...");
-        System.out.println("DataInitializer: Current user count: " + userRepository.count());
-        
         // Check if users already exist
-        if (userRepository.count() == 0) {
+        long userCount = userRepository.count();
+        if (userCount == 0) {
             // Create admin user
             User admin = new User();
             admin.setEmail("admin@ssn.edu.in");
@@ -59,11 +67,9 @@ public class DataInitializer implements CommandLineRunner {
             profile.setResearch("Machine Learning, Database Systems, Software Engineering");
             profileRepository.save(profile);
 
-            System.out.println("Initial data created successfully!");
-            System.out.println("Admin: admin@ssn.edu.in / admin123");
-            System.out.println("Staff: mike.lee@ssn.edu.in / mike789");
+            logger.info("Demo data created. Admin: admin@ssn.edu.in / admin123, Staff: mike.lee@ssn.edu.in / mike789");
         } else {
-            System.out.println("DataInitializer: Users already exist, skipping initialization");
+            logger.debug("{} users already exist, skipping demo data", userCount);
         }
     }
 }
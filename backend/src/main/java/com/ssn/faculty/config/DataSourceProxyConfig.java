@@ -0,0 +1,66 @@
+package com.ssn.faculty.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import net.ttddyy.observation.tracing.JdbcObservationDocumentation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * Wraps the DataSource in a datasource-proxy so every statement passes through
+ * SqlStatementListener, for the per-request SQL statistics and the slow query log, and through
+ * datasource-micrometer for connection and query spans.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(
+            @Value("${app.sql.enabled:true}") boolean enabled,
+            @Value("${app.sql.slow-query-ms:500}") long slowQueryMs,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                if (bean instanceof LazyConnectionDataSourceProxy lazy && lazy.getTargetDataSource() != null) {
+                    // The listeners look at each connection they see, which would make the lazy proxy
+                    // fetch it straight away; wrap what it fetches from instead (see ReadReplicaConfig)
+                    lazy.setTargetDataSource(wrap(lazy.getTargetDataSource(), beanName));
+                    return lazy;
+                }
+                return wrap(dataSource, beanName);
+            }
+
+            private DataSource wrap(DataSource dataSource, String beanName) {
+                SqlStatementListener listener = new SqlStatementListener(slowQueryMs, meterRegistry);
+                DataSourceObservationListener tracing = new DataSourceObservationListener(
+                        () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+                // A span per result set would double the span count for little extra information
+                tracing.setSupportedTypes(Set.of(JdbcObservationDocumentation.CONNECTION, JdbcObservationDocumentation.QUERY));
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .listener(tracing)
+                        .methodListener(listener)
+                        .methodListener(tracing)
+                        // Needed to count the rows read
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+}
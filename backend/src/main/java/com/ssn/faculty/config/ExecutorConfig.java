@@ -0,0 +1,91 @@
+package com.ssn.faculty.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Executor behind @Async (email sending). Declared explicitly because Spring Boot stops
+     * auto-configuring it as soon as any other Executor bean exists.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Bounded pool for BCrypt hashing during bulk imports. When the queue is full the
+     * submitting thread hashes itself, which throttles the import instead of failing it.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(ThreadPoolTaskExecutorBuilder builder,
+                                                       @Value("${app.import.hash-threads:0}") int hashThreads) {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = builder
+                .corePoolSize(threads)
+                .maxPoolSize(threads)
+                .queueCapacity(1000)
+                .threadNamePrefix("password-hash-")
+                .build();
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Background work on stored files, such as image thumbnails. Thumbnails are also created on
+     * first request, so tasks that do not fit in the queue are simply dropped.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor storageExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        ThreadPoolTaskExecutor executor = builder
+                .corePoolSize(2)
+                .maxPoolSize(2)
+                .queueCapacity(200)
+                .threadNamePrefix("storage-")
+                .build();
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /**
+     * Copies multi-file uploads into the staging area in parallel, outside any transaction.
+     * When the queue is full the request thread stages the file itself rather than failing.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor(ThreadPoolTaskExecutorBuilder builder,
+                                                 @Value("${app.uploads.stage-threads:4}") int stageThreads) {
+        ThreadPoolTaskExecutor executor = builder
+                .corePoolSize(stageThreads)
+                .maxPoolSize(stageThreads)
+                .queueCapacity(100)
+                .threadNamePrefix("upload-")
+                .build();
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Work-stealing pool for rendering dossiers in report jobs. Shared by all running jobs, so
+     * the parallelism caps the total rendering load regardless of how many reports are requested.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool dossierReportPool(@Value("${app.reports.dossier-parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("dossier-report-" + counter.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+}
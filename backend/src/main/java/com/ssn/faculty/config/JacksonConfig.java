@@ -0,0 +1,29 @@
+package com.ssn.faculty.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Binary JSON encodings for clients that send Accept: application/x-jackson-smile or
+ * application/cbor. They carry the same fields as the JSON responses in a smaller, faster to
+ * parse form; JSON stays the default. Built from Boot's ObjectMapper builder so dates and
+ * inclusion rules match the JSON output.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.build().copyWith(new SmileFactory()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.build().copyWith(new CBORFactory()));
+    }
+}
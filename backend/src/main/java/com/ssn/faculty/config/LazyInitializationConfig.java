@@ -0,0 +1,26 @@
+package com.ssn.faculty.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * With spring.main.lazy-initialization (the fast profile) a bean is only created when something
+     * asks for it, and nothing ever asks for the ones that only hold @Scheduled jobs, so those jobs
+     * would never be registered. Keep such beans eager.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                        .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+}
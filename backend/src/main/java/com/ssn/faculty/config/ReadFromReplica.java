@@ -0,0 +1,19 @@
+package com.ssn.faculty.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the read-only transactions started within the annotated method go to the read replica,
+ * which may be a few seconds behind the primary. Only for reads whose result is shown as is;
+ * anything that is read to be modified and saved, or read back right after a write, must stay
+ * on the primary. Has no effect unless a replica is configured (see ReadReplicaConfig).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
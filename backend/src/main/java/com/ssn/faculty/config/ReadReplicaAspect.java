@@ -0,0 +1,29 @@
+package com.ssn.faculty.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the calling thread as allowed to read from the replica for the duration of a
+ * {@link ReadFromReplica} method. Runs before the transaction interceptor, so the flag is set
+ * by the time a connection is chosen.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadReplicaAspect {
+
+    @Around("@annotation(com.ssn.faculty.config.ReadFromReplica) || @within(com.ssn.faculty.config.ReadFromReplica)")
+    public Object allowReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReadReplicaRoutingDataSource.setReplicaAllowed(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadReplicaRoutingDataSource.setReplicaAllowed(previous);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ssn.faculty.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured DataSource with a primary and a replica pool when
+ * app.datasource.replica.url is set. Both pools take their settings from spring.datasource.hikari;
+ * the replica only gets its own URL, credentials and size.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isEmpty()")
+public class ReadReplicaConfig {
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${app.datasource.replica.url}") String replicaUrl,
+                                 @Value("${app.datasource.replica.username}") String replicaUsername,
+                                 @Value("${app.datasource.replica.password}") String replicaPassword,
+                                 @Value("${app.datasource.replica.maximum-pool-size:20}") int replicaPoolSize,
+                                 @Value("${app.datasource.replica.max-lag-seconds:5}") double maxLagSeconds,
+                                 @Value("${app.datasource.replica.lag-check-ms:5000}") long lagCheckMs) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        HikariDataSource replica = new HikariDataSource();
+        primary.copyStateTo(replica);
+        replica.setJdbcUrl(replicaUrl);
+        replica.setUsername(replicaUsername);
+        replica.setPassword(replicaPassword);
+        replica.setMaximumPoolSize(replicaPoolSize);
+        replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), replicaPoolSize));
+        replica.setPoolName(primary.getPoolName() + "-replica");
+        replica.setReadOnly(true);
+        // Start without a connection, so a replica that is down does not fail the pool on every check
+        replica.setInitializationFailTimeout(-1);
+
+        // Neither pool is a bean of its own, so Spring Boot would not bind their metrics
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            primary.setMetricRegistry(registry);
+            replica.setMetricRegistry(registry);
+        }
+
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replica, maxLagSeconds, lagCheckMs);
+        routingDataSource.afterPropertiesSet();
+        if (registry != null) {
+            Gauge.builder("db.replica.lag", routingDataSource, ReadReplicaRoutingDataSource::getLagSeconds)
+                    .description("Replay lag of the read replica at the last check, NaN when unreachable")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("db.replica.in.use", routingDataSource, ds -> ds.isReplicaInUse() ? 1 : 0)
+                    .description("1 while @ReadFromReplica reads are sent to the replica")
+                    .register(registry);
+        }
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-ms:5000}")
+    public void checkReplicaLag() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplica();
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+}
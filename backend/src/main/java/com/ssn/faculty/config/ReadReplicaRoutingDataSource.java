@@ -0,0 +1,125 @@
+package com.ssn.faculty.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions started within a {@link ReadFromReplica} method to
+ * the replica pool and everything else to the primary. Other read-only transactions, such as
+ * Spring Data's repository reads, stay on the primary since their results may be modified and
+ * saved. The replica is only used while its last lag check is recent and within the allowed lag;
+ * when it falls behind or cannot be reached, reads go to the primary until it recovers. Must sit
+ * behind a LazyConnectionDataSourceProxy, so the connection is only chosen once the transaction's
+ * read-only flag is known.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> replicaAllowed = new NamedThreadLocal<>("Read replica allowed");
+
+    // Zero when the replica has replayed everything it received, so an idle primary does not look like lag
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END""";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final JdbcTemplate replicaJdbc;
+    private final double maxLagSeconds;
+    private final long staleAfterNanos;
+
+    private volatile boolean replicaUsable;
+    private volatile long checkedAt;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                        double maxLagSeconds, long lagCheckMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.replicaJdbc.setQueryTimeout(2);
+        this.maxLagSeconds = maxLagSeconds;
+        // A check that has not run for a while (scheduler busy, replica hanging) no longer counts
+        this.staleAfterNanos = lagCheckMs * 3 * 1_000_000L;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean fresh = System.nanoTime() - checkedAt < staleAfterNanos;
+        return Boolean.TRUE.equals(replicaAllowed.get())
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaUsable && fresh
+                ? REPLICA : PRIMARY;
+    }
+
+    /**
+     * Allow or disallow the replica for read-only transactions on the current thread, returning
+     * the previous setting so it can be restored
+     */
+    static boolean setReplicaAllowed(boolean allowed) {
+        boolean previous = Boolean.TRUE.equals(replicaAllowed.get());
+        if (allowed) {
+            replicaAllowed.set(Boolean.TRUE);
+        } else {
+            replicaAllowed.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Measure the replica's replay lag and decide whether reads may go to it
+     */
+    public void checkReplica() {
+        boolean usable;
+        try {
+            Double lag = replicaJdbc.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            usable = lagSeconds <= maxLagSeconds;
+            if (!usable && replicaUsable) {
+                logger.warn("Replica is {} s behind (limit {} s), sending reads to the primary", lagSeconds, maxLagSeconds);
+            }
+        } catch (RuntimeException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (replicaUsable) {
+                logger.warn("Replica check failed, sending reads to the primary: {}", e.getMessage());
+            }
+        }
+        if (usable && !replicaUsable) {
+            logger.info("Sending @ReadFromReplica reads to the replica (lag {} s)", lagSeconds);
+        }
+        replicaUsable = usable;
+        checkedAt = System.nanoTime();
+    }
+
+    public boolean isReplicaInUse() {
+        return replicaUsable && System.nanoTime() - checkedAt < staleAfterNanos;
+    }
+
+    /**
+     * Replay lag seen by the last check in seconds, NaN when the replica could not be reached
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
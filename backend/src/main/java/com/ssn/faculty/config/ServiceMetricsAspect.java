@@ -0,0 +1,56 @@
+package com.ssn.faculty.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the core services as service.method.invocations, tagged with the
+ * class, method, outcome (SUCCESS or ERROR) and exception. Calls a service makes to itself are not
+ * timed separately. @Async methods are timed on the executor thread, so the timer measures the
+ * work rather than the hand-off.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * The core services' public methods; TracingAspect traces the same set
+     */
+    @Pointcut("execution(public * com.ssn.faculty.service.FacultyProfileService.*(..))"
+            + " || execution(public * com.ssn.faculty.service.UserService.*(..))"
+            + " || execution(public * com.ssn.faculty.service.EmailService.*(..))"
+            + " || execution(public * com.ssn.faculty.service.FileStorageService.*(..))")
+    public void coreServices() {
+    }
+
+    @Around("coreServices()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("service.method.invocations")
+                    .description("Time spent in service methods")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssn.faculty.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adds every statement to the current request's SqlStatistics and logs the slow ones. Rows are
+ * those read through ResultSet.next() plus the update counts of inserts, updates and deletes.
+ * Slow queries are logged as their SQL with placeholders; bound values are never logged since
+ * they include emails, tokens and password hashes.
+ */
+class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementListener.class);
+
+    private final long slowQueryMs;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Counter slowQueries;
+
+    SqlStatementListener(long slowQueryMs, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.slowQueryMs = slowQueryMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            statistics.addStatement(execInfo.getElapsedTime(), updateCount(execInfo.getResult()));
+        }
+        if (slowQueryMs > 0 && execInfo.getElapsedTime() >= slowQueryMs) {
+            logSlowQuery(execInfo, queryInfoList);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            SqlStatistics statistics = SqlStatistics.current();
+            if (statistics != null) {
+                statistics.addRow();
+            }
+        }
+    }
+
+    private void logSlowQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        int parameters = queryInfoList.stream()
+                .flatMap(query -> query.getParametersList().stream())
+                .mapToInt(List::size)
+                .sum();
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        logger.warn("Slow SQL took {} ms{} ({} bound parameters redacted): {}", execInfo.getElapsedTime(),
+                execInfo.isBatch() ? " for a batch of " + execInfo.getBatchSize() : "", parameters, sql);
+
+        if (slowQueries == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            slowQueries = Counter.builder("sql.slow.queries")
+                    .description("Statements slower than app.sql.slow-query-ms")
+                    .register(registry);
+        }
+        slowQueries.increment();
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count && count > 0) {
+            return count;
+        }
+        if (result instanceof Long count && count > 0) {
+            return count;
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return 0;
+    }
+}
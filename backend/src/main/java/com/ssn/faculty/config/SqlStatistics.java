@@ -0,0 +1,56 @@
+package com.ssn.faculty.config;
+
+/**
+ * SQL executed on behalf of the current HTTP request. SqlStatisticsFilter opens one per request
+ * and SqlStatementListener adds to it; statements run outside a request (scheduled jobs, @Async
+ * work) are not counted anywhere.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedMs;
+
+    private SqlStatistics() {}
+
+    static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The statistics of the request being handled on this thread, or null
+     */
+    static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    void addStatement(long elapsedMs, long rowsAffected) {
+        statements++;
+        this.elapsedMs += elapsedMs;
+        rows += rowsAffected;
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+}
@@ -0,0 +1,155 @@
+package com.ssn.faculty.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the SQL statistics of each request. In development they are returned as X-SQL-*
+ * response headers (app.sql.response-headers); in production they are recorded per endpoint as
+ * the sql.request.statements, sql.request.rows and sql.request.time metrics. Runs ahead of the
+ * security filters so the user lookup for the JWT is counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String ROWS_HEADER = "X-SQL-Rows";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.sql.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.sql.response-headers:false}")
+    private boolean responseHeaders;
+
+    @Value("${app.sql.metrics:true}")
+    private boolean metrics;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || (!responseHeaders && !metrics);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.begin();
+        StatisticsHeaderResponse wrapped = responseHeaders ? new StatisticsHeaderResponse(response, statistics) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            SqlStatistics.end();
+            if (wrapped != null) {
+                wrapped.writeHeaders();
+            }
+            if (metrics) {
+                record(request, statistics);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements executed per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("sql.request.rows")
+                .description("Rows read or written per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("sql.request.time")
+                .description("Time spent executing SQL per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getElapsedMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the headers just before the response is committed, which is the last moment they can
+     * be. Statements run after the body has started (streamed downloads) are only in the metrics.
+     */
+    private static class StatisticsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatistics statistics;
+        private boolean written;
+
+        StatisticsHeaderResponse(HttpServletResponse response, SqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+            setHeader(ROWS_HEADER, String.valueOf(statistics.getRows()));
+            setHeader(TIME_HEADER, String.valueOf(statistics.getElapsedMs()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssn.faculty.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a span around controller methods, the core services (including FileStorageService),
+ * repository calls and outgoing mail, named like FacultyProfileService.updateProfile. Together with
+ * the HTTP server span and the JDBC spans this splits a slow request into multipart parsing
+ * (the gap before the controller span), file copies, queries and SMTP. These observations only
+ * produce spans; the timers for the same calls come from ServiceMetricsAspect and Spring Data.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Around("execution(public * *(..)) && within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.controller", joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("com.ssn.faculty.config.ServiceMetricsAspect.coreServices()")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.service", joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Inherited methods such as findAll are declared on the Spring Data interfaces, so name the span after ours
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())) {
+            if (Repository.class.isAssignableFrom(candidate)) {
+                type = candidate.getSimpleName();
+                break;
+            }
+        }
+        return observe("app.repository", type, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.mail.MailSender+.send(..))")
+    public Object traceMail(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.mail.send", "JavaMailSender", joinPoint);
+    }
+
+    private Object observe(String name, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(name, SpanOnlyContext::new, observationRegistry)
+                .contextualName(type + "." + method)
+                .lowCardinalityKeyValue("class", type)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Marks observations that TracingConfig keeps out of the metrics
+     */
+    static class SpanOnlyContext extends Observation.Context {
+    }
+}
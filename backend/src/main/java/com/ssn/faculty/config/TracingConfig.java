@@ -0,0 +1,89 @@
+package com.ssn.faculty.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.observation.MeterObservationHandler;
+import io.micrometer.observation.Observation;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.TracingAwareMeterObservationHandler;
+import net.ttddyy.observation.tracing.DataSourceBaseContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Carries the current observation (and with it the trace) into tasks run on the executors,
+     * so @Async email sending and parallel upload staging show up in the request's trace.
+     * Spring Boot applies it to every executor made with ThreadPoolTaskExecutorBuilder.
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    /**
+     * Spring Boot's meter handler, except for the span-only observations of TracingAspect and the
+     * JDBC observations, whose calls are already timed elsewhere.
+     */
+    @Bean
+    public MeterObservationHandler<Observation.Context> meterObservationHandler(MeterRegistry meterRegistry,
+                                                                                ObjectProvider<Tracer> tracer) {
+        MeterObservationHandler<Observation.Context> handler = new DefaultMeterObservationHandler(meterRegistry);
+        Tracer available = tracer.getIfAvailable();
+        if (available != null) {
+            handler = new TracingAwareMeterObservationHandler<>(handler, available);
+        }
+        return new SkippingMeterObservationHandler(handler);
+    }
+
+    private record SkippingMeterObservationHandler(MeterObservationHandler<Observation.Context> delegate)
+            implements MeterObservationHandler<Observation.Context> {
+
+        @Override
+        public boolean supportsContext(Observation.Context context) {
+            return !(context instanceof TracingAspect.SpanOnlyContext)
+                    && !(context instanceof DataSourceBaseContext)
+                    && delegate.supportsContext(context);
+        }
+
+        @Override
+        public void onStart(Observation.Context context) {
+            delegate.onStart(context);
+        }
+
+        @Override
+        public void onError(Observation.Context context) {
+            delegate.onError(context);
+        }
+
+        @Override
+        public void onEvent(Observation.Event event, Observation.Context context) {
+            delegate.onEvent(event, context);
+        }
+
+        @Override
+        public void onScopeOpened(Observation.Context context) {
+            delegate.onScopeOpened(context);
+        }
+
+        @Override
+        public void onScopeClosed(Observation.Context context) {
+            delegate.onScopeClosed(context);
+        }
+
+        @Override
+        public void onScopeReset(Observation.Context context) {
+            delegate.onScopeReset(context);
+        }
+
+        @Override
+        public void onStop(Observation.Context context) {
+            delegate.onStop(context);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.ssn.faculty.config;
 import com.ssn.faculty.security.AuthTokenFilter;
 import com.ssn.faculty.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -61,6 +64,8 @@ public class WebSecurityConfig {
                 auth.requestMatchers("/auth/**").permitAll()
                     .requestMatchers("/profiles/**").permitAll()
                     .requestMatchers("/files/**").permitAll()
+                    // Served on the internal management port only (management.server.port)
+                    .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                     .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
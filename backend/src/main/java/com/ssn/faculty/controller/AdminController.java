@@ -1,9 +1,12 @@
 package com.ssn.faculty.controller;
 
+import com.ssn.faculty.dto.BulkApproveRequest;
+import com.ssn.faculty.dto.PendingUserSummary;
 import com.ssn.faculty.entity.Role;
 import com.ssn.faculty.entity.User;
 import com.ssn.faculty.repository.UserRepository;
 import com.ssn.faculty.security.UserPrincipal;
+import com.ssn.faculty.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,27 +24,40 @@ import java.util.Map;
 @Tag(name = "Admin", description = "Admin approval APIs")
 public class AdminController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BULK_APPROVE = 1000;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
     private boolean isManager(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         return userPrincipal.getRole() == Role.MANAGER;
     }
 
     @GetMapping("/pending-users")
-    @Operation(summary = "List users pending approval")
-    public ResponseEntity<?> listPending(Authentication authentication) {
+    @Operation(summary = "List users pending approval", description = "Keyset-paginated by id; pass nextCursor back as 'after'")
+    public ResponseEntity<?> listPending(Authentication authentication,
+                                        @RequestParam(value = "after", required = false) Long after,
+                                        @RequestParam(value = "limit", defaultValue = "50") int limit) {
         if (!isManager(authentication)) {
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden"));
         }
-        List<User> users = userRepository.findAll().stream()
-                .filter(u -> Boolean.TRUE.equals(u.getIsEmailVerified()) && Boolean.FALSE.equals(u.getIsApproved()))
-                .toList();
-        return ResponseEntity.ok(users.stream().map(u -> Map.of(
-                "id", u.getId(),
-                "email", u.getEmail()
-        )));
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<PendingUserSummary> users = userService.findPendingApproval(after, pageSize);
+        Map<String, Object> response = new HashMap<>();
+        response.put("items", users.stream().map(u -> {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", u.getId());
+            item.put("email", u.getEmail());
+            item.put("createdAt", u.getCreatedAt());
+            return item;
+        }).toList());
+        response.put("nextCursor", users.size() == pageSize ? users.get(users.size() - 1).getId() : null);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/approve-user/{id}")
@@ -60,6 +76,26 @@ public class AdminController {
         response.put("message", "User approved");
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/approve-users")
+    @Operation(summary = "Approve several users", description = "Approve a list of user ids in a single update")
+    public ResponseEntity<?> approveUsers(Authentication authentication, @RequestBody BulkApproveRequest request) {
+        if (!isManager(authentication)) {
+            return ResponseEntity.status(403).body(Map.of("error", "Forbidden"));
+        }
+        List<Long> ids = request.getIds();
+        if (ids == null || ids.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "No user ids provided"));
+        }
+        if (ids.size() > MAX_BULK_APPROVE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "At most " + MAX_BULK_APPROVE + " users can be approved at once"));
+        }
+        int approved = userService.approveUsers(ids);
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Users approved");
+        response.put("approved", approved);
+        return ResponseEntity.ok(response);
+    }
 }
 
 
@@ -7,6 +7,7 @@ import com.ssn.faculty.entity.Role;
 import com.ssn.faculty.security.UserPrincipal;
 import com.ssn.faculty.service.UserService;
 import com.ssn.faculty.service.EmailService;
+import com.ssn.faculty.service.EmailStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -32,6 +33,9 @@ public class AuthController {
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private EmailStatsService emailStatsService;
+    
     @Autowired
     private PasswordEncoder passwordEncoder;
     
@@ -263,7 +267,8 @@ public class AuthController {
     
     @GetMapping("/email-stats")
     @Operation(summary = "Get email statistics", description = "Get email sending statistics (Admin only)")
-    public ResponseEntity<?> getEmailStats(Authentication authentication) {
+    public ResponseEntity<?> getEmailStats(Authentication authentication,
+                                           @RequestParam(defaultValue = "30") int days) {
         try {
             UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
             if (userPrincipal.getRole() != com.ssn.faculty.entity.Role.MANAGER) {
@@ -272,10 +277,7 @@ public class AuthController {
                 return ResponseEntity.status(403).body(error);
             }
             
-            // This would require additional service methods to implement
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("message", "Email statistics feature coming soon");
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(emailStatsService.getEmailStats(days));
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", "Failed to get email statistics");
@@ -2,23 +2,34 @@ package com.ssn.faculty.controller;
 
 import com.ssn.faculty.dto.FacultyProfileDto;
 import com.ssn.faculty.dto.AddFacultyRequest;
+import com.ssn.faculty.dto.FacultyImportResult;
+import com.ssn.faculty.dto.ProfileDocumentDto;
+import com.ssn.faculty.entity.DocumentSlot;
 import com.ssn.faculty.entity.Role;
 import com.ssn.faculty.security.UserPrincipal;
+import com.ssn.faculty.service.DossierService;
+import com.ssn.faculty.service.FacultyExportService;
+import com.ssn.faculty.service.FacultyImportService;
 import com.ssn.faculty.service.FacultyProfileService;
 import com.ssn.faculty.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -35,6 +46,15 @@ public class FacultyProfileController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private FacultyImportService facultyImportService;
+    
+    @Autowired
+    private FacultyExportService facultyExportService;
+    
+    @Autowired
+    private DossierService dossierService;
+    
     @GetMapping
     @Operation(summary = "Get all profiles", description = "Retrieve all faculty profiles (public access)")
     public ResponseEntity<List<FacultyProfileDto>> getAllProfiles() {
@@ -55,6 +75,37 @@ public class FacultyProfileController {
         }
     }
     
+    @GetMapping("/{id}/documents")
+    @Operation(summary = "List profile documents", description = "Uploaded documents of a profile with size, checksum and content type")
+    public ResponseEntity<?> getDocuments(@PathVariable Long id) {
+        Optional<List<ProfileDocumentDto>> documents = profileService.getDocuments(id);
+        if (documents.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(documents.get());
+    }
+    
+    @GetMapping("/{id}/dossier.pdf")
+    @PreAuthorize("hasAnyRole('MANAGER', 'STAFF')")
+    @Operation(summary = "Download profile dossier", description = "Profile summary and all uploaded PDF/image documents merged into one PDF (Manager, or the profile owner)")
+    public ResponseEntity<StreamingResponseBody> getDossier(@PathVariable Long id, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        
+        Optional<FacultyProfileDto> profile = profileService.getProfileById(id);
+        if (profile.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (userPrincipal.getRole() != Role.MANAGER && !profile.get().getUserId().equals(userPrincipal.getId())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        StreamingResponseBody body = out -> dossierService.writeDossier(id, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"dossier-" + id + ".pdf\"")
+                .body(body);
+    }
+    
     @PostMapping("/add-faculty")
     @PreAuthorize("hasRole('MANAGER')")
     @Operation(summary = "Add new faculty member", description = "Create a new faculty member with user account and profile (Manager only)")
@@ -95,6 +146,43 @@ public class FacultyProfileController {
         }
     }
     
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Import faculty members", description = "Create faculty members in bulk from a CSV or XLSX sheet with a header row (Manager only)")
+    public ResponseEntity<?> importFaculty(@RequestParam("file") MultipartFile file) {
+        try {
+            FacultyImportResult result = facultyImportService.importFaculty(file);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Export faculty directory", description = "Stream all profiles as CSV or NDJSON, optionally for one department (Manager only)")
+    public ResponseEntity<StreamingResponseBody> exportProfiles(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String department) {
+        String exportFormat = format.toLowerCase(Locale.ROOT);
+        if (!FacultyExportService.isSupportedFormat(exportFormat)) {
+            throw new RuntimeException("Unsupported export format: " + format);
+        }
+        
+        MediaType contentType = FacultyExportService.FORMAT_NDJSON.equals(exportFormat)
+                ? MediaType.parseMediaType("application/x-ndjson")
+                : new MediaType("text", "csv", StandardCharsets.UTF_8);
+        String filename = "faculty-directory-" + LocalDate.now() + "." + exportFormat;
+        StreamingResponseBody body = out -> facultyExportService.export(exportFormat, department, out);
+        
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+    
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('MANAGER')")
     @Operation(summary = "Create new profile", description = "Create a new faculty profile (Manager only)")
@@ -180,6 +268,45 @@ public class FacultyProfileController {
         }
     }
     
+    @PutMapping(value = "/{id}/documents/{slot}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload document", description = "Upload a single file into a named document slot (e.g. tenth_cert, profile_pic), replacing the current file")
+    public ResponseEntity<?> uploadDocument(
+            @PathVariable Long id,
+            @PathVariable String slot,
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+        try {
+            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+            
+            DocumentSlot documentSlot = DocumentSlot.fromKey(slot);
+            if (documentSlot == null) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Invalid document slot: " + slot);
+                return ResponseEntity.badRequest().body(error);
+            }
+            
+            Optional<FacultyProfileDto> existingProfile = profileService.getProfileById(id);
+            if (existingProfile.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            // Allow managers to edit any profile, or users to edit their own profile
+            if (userPrincipal.getRole() != Role.MANAGER && 
+                !existingProfile.get().getUserId().equals(userPrincipal.getId())) {
+                Map<String, String> error = new HashMap<>();
+                error.put("error", "Unauthorized: Can only edit own profile");
+                return ResponseEntity.status(403).body(error);
+            }
+            
+            FacultyProfileDto updatedProfile = profileService.uploadDocument(id, documentSlot, file);
+            return ResponseEntity.ok(updatedProfile);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete profile", description = "Delete a faculty profile")
     public ResponseEntity<?> deleteProfile(
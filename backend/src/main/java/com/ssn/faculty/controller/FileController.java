@@ -1,10 +1,16 @@
 package com.ssn.faculty.controller;
 
+import com.ssn.faculty.repository.ProfileDocumentRepository;
 import com.ssn.faculty.service.FileStorageService;
+import com.ssn.faculty.service.FileStorageService.StoredContent;
+import com.ssn.faculty.service.ThumbnailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,8 +18,10 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -24,6 +32,12 @@ public class FileController {
     @Autowired
     private FileStorageService fileStorageService;
     
+    @Autowired
+    private ThumbnailService thumbnailService;
+    
+    @Autowired
+    private ProfileDocumentRepository documentRepository;
+    
     @PostMapping("/upload")
     @Operation(summary = "Upload file", description = "Upload a file to the server")
     public ResponseEntity<?> uploadFile(@RequestParam("file") MultipartFile file) {
@@ -40,6 +54,28 @@ public class FileController {
         }
     }
     
+    @GetMapping("/thumb/{size}/{filename:.+}")
+    @Operation(summary = "Download thumbnail", description = "Square JPEG thumbnail (64, 128 or 256px) of an uploaded image")
+    public ResponseEntity<Resource> downloadThumbnail(@PathVariable int size, @PathVariable String filename) {
+        if (!thumbnailService.isSupportedSize(size)) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            Path thumbnail = thumbnailService.getThumbnail(filename, size);
+            if (thumbnail == null) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            // Stored file names are unique per upload, so a thumbnail URL always points at the same bytes
+            return ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .body(new FileSystemResource(thumbnail));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
     @GetMapping("/download/**")
     @Operation(summary = "Download file", description = "Download a file from the server")
     public ResponseEntity<Resource> downloadFile(HttpServletRequest request) {
@@ -54,23 +90,49 @@ public class FileController {
                 actualFilename = filename.substring("/uploads/".length());
             }
             
-            Resource resource = fileStorageService.loadFileAsResource(actualFilename);
+            StoredContent stored = fileStorageService.locateStoredFile(actualFilename);
+            if (stored == null) {
+                return ResponseEntity.notFound().build();
+            }
             
-            String contentType = "application/octet-stream";
-            if (actualFilename.endsWith(".pdf")) {
-                contentType = "application/pdf";
-            } else if (actualFilename.endsWith(".jpg") || actualFilename.endsWith(".jpeg")) {
-                contentType = "image/jpeg";
-            } else if (actualFilename.endsWith(".png")) {
-                contentType = "image/png";
+            // Type detected from the file's content when it was uploaded
+            String contentType = documentRepository.findContentTypesByStorageKey("/uploads/" + actualFilename).stream()
+                    .filter(type -> type != null)
+                    .findFirst()
+                    .orElse(null);
+            if (contentType == null) {
+                contentType = fileStorageService.detectContentType(actualFilename);
             }
             
-            return ResponseEntity.ok()
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                     .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + actualFilename + "\"")
-                    .body(resource);
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + actualFilename + "\"");
+            if (!stored.compressed()) {
+                return response.body(new FileSystemResource(stored.path()));
+            }
+            
+            // Compressed on disk: send the stored bytes as they are, and only inflate for clients without gzip
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .body(new FileSystemResource(stored.path()));
+            }
+            return response.body(new InputStreamResource(fileStorageService.openStoredFile(actualFilename)));
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
     }
+    
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] coding = part.trim().split(";");
+            if (coding[0].trim().equalsIgnoreCase("gzip")) {
+                return coding.length < 2 || !coding[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,81 @@
+package com.ssn.faculty.controller;
+
+import com.ssn.faculty.dto.ReportJobStatus;
+import com.ssn.faculty.service.DossierReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/reports")
+@Tag(name = "Reports", description = "Bulk report generation APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class ReportController {
+    
+    @Autowired
+    private DossierReportService dossierReportService;
+    
+    @PostMapping("/dossiers")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Start dossier bundle", description = "Generate the dossiers of every profile in a department as one ZIP in the background (Manager only)")
+    public ResponseEntity<?> startDossierReport(@RequestParam(required = false) String department) {
+        try {
+            ReportJobStatus status = dossierReportService.startDossierJob(department);
+            return ResponseEntity.accepted().body(status);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+    
+    @GetMapping("/dossiers/{jobId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Dossier bundle status", description = "Progress of a dossier bundle job (Manager only)")
+    public ResponseEntity<?> getDossierReportStatus(@PathVariable String jobId) {
+        ReportJobStatus status = dossierReportService.getStatus(jobId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+    
+    @GetMapping("/dossiers/{jobId}/download")
+    @PreAuthorize("hasRole('MANAGER')")
+    @Operation(summary = "Download dossier bundle", description = "Download the ZIP of a completed dossier bundle job (Manager only)")
+    public ResponseEntity<?> downloadDossierReport(@PathVariable String jobId) {
+        ReportJobStatus status = dossierReportService.getStatus(jobId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Path file = dossierReportService.getResult(jobId);
+        if (file == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Report is not ready: " + status.getStatus());
+            return ResponseEntity.status(409).body(error);
+        }
+        
+        String department = status.getDepartment() != null ? status.getDepartment() : "all";
+        // Spring's encoded filename= fallback does not escape quotes, so keep them out of the name
+        String filename = "dossiers-" + department.replaceAll("[\"\\\\]", "_") + ".zip";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename, StandardCharsets.UTF_8).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssn.faculty.dto;
+
+import java.util.List;
+
+public class BulkApproveRequest {
+    
+    private List<Long> ids;
+    
+    // Constructors
+    public BulkApproveRequest() {}
+    
+    public BulkApproveRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ssn.faculty.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FacultyImportResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String SKIPPED = "SKIPPED";
+    public static final String FAILED = "FAILED";
+
+    private int totalRows;
+    private int created;
+    private int skipped;
+    private int failed;
+    private List<RowResult> rows = new ArrayList<>();
+
+    public void addRow(RowResult row) {
+        rows.add(row);
+        totalRows++;
+        switch (row.getStatus()) {
+            case CREATED -> created++;
+            case SKIPPED -> skipped++;
+            default -> failed++;
+        }
+    }
+
+    // Getters and Setters
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<RowResult> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<RowResult> rows) {
+        this.rows = rows;
+    }
+
+    public static class RowResult {
+        private int row;
+        private String email;
+        private String status;
+        private String message;
+        private Long userId;
+
+        public RowResult(int row, String email, String status, String message) {
+            this.row = row;
+            this.email = email;
+            this.status = status;
+            this.message = message;
+        }
+
+        // Getters and Setters
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
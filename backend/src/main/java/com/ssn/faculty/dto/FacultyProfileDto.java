@@ -1,9 +1,12 @@
 package com.ssn.faculty.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ssn.faculty.entity.Role;
 
 import java.time.LocalDateTime;
 
+// Most document slots are empty on a typical profile, so null fields are left out of responses
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FacultyProfileDto {
     
     private Long id;
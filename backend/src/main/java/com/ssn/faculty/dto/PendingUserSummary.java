@@ -0,0 +1,15 @@
+package com.ssn.faculty.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a user awaiting admin approval; only the columns the admin queue shows.
+ */
+public interface PendingUserSummary {
+    
+    Long getId();
+    
+    String getEmail();
+    
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,11 @@
+package com.ssn.faculty.dto;
+
+/**
+ * Projection of a faculty profile reduced to its id and display name.
+ */
+public interface ProfileNameSummary {
+    
+    Long getId();
+    
+    String getName();
+}
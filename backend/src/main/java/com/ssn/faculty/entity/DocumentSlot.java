@@ -0,0 +1,180 @@
+package com.ssn.faculty.entity;
+
+import com.ssn.faculty.dto.FacultyProfileDto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The document slots of a faculty profile. Each slot carries its API key, display label and the
+ * matching DTO field, so code that works on "every document" loops over values() and code that
+ * works on one document looks its slot up once instead of branching per field. The stored name
+ * is persisted in profile_documents.slot, so constants must not be renamed.
+ */
+public enum DocumentSlot {
+
+    PROFILE_PIC("profile_pic", "profilePic", "Profile Picture",
+            FacultyProfileDto::setProfilePic,
+            "profile", "pic", "photo"),
+    TENTH_CERT("tenth_cert", "tenthCert", "10th Certificate",
+            FacultyProfileDto::setTenthCert,
+            "tenth", "10th", "sslc"),
+    TWELFTH_CERT("twelfth_cert", "twelfthCert", "12th Certificate",
+            FacultyProfileDto::setTwelfthCert,
+            "twelfth", "12th", "hsc"),
+    APPOINTMENT_ORDER("appointment_order", "appointmentOrder", "Appointment Order",
+            FacultyProfileDto::setAppointmentOrder,
+            "appointment"),
+    JOINING_REPORT("joining_report", "joiningReport", "Joining Report",
+            FacultyProfileDto::setJoiningReport,
+            "joining"),
+    UG_DEGREE("ug_degree", "ugDegree", "UG Degree Certificate",
+            FacultyProfileDto::setUgDegree,
+            "ug", "undergraduate"),
+    PG_MS_CONSOLIDATED("pg_ms_consolidated", "pgMsConsolidated", "PG/MS Consolidated",
+            FacultyProfileDto::setPgMsConsolidated,
+            "pg", "ms", "postgraduate"),
+    PHD_DEGREE("phd_degree", "phdDegree", "PhD Degree Certificate",
+            FacultyProfileDto::setPhdDegree,
+            "phd", "doctorate"),
+    JOURNALS_LIST("journals_list", "journalsList", "Journals List",
+            FacultyProfileDto::setJournalsList,
+            "journal", "journals"),
+    CONFERENCES_LIST("conferences_list", "conferencesList", "Conferences List",
+            FacultyProfileDto::setConferencesList,
+            "conference", "conferences"),
+    AU_SUPERVISOR_LETTER("au_supervisor_letter", "auSupervisorLetter", "AU Supervisor Letter",
+            FacultyProfileDto::setAuSupervisorLetter,
+            "supervisor"),
+    FDP_WORKSHOPS_WEBINARS("fdp_workshops_webinars", "fdpWorkshopsWebinars", "FDP/Workshops/Webinars",
+            FacultyProfileDto::setFdpWorkshopsWebinars,
+            "fdp", "workshop", "workshops", "webinar", "webinars"),
+    NPTEL_COURSERA("nptel_coursera", "nptelCoursera", "NPTEL/Coursera Courses",
+            FacultyProfileDto::setNptelCoursera,
+            "nptel", "coursera"),
+    INVITED_TALKS("invited_talks", "invitedTalks", "Invited Talks",
+            FacultyProfileDto::setInvitedTalks,
+            "invited", "talk", "talks"),
+    PROJECTS_SANCTION("projects_sanction", "projectsSanction", "Projects Sanction",
+            FacultyProfileDto::setProjectsSanction,
+            "project", "projects", "sanction"),
+    CONSULTANCY("consultancy", "consultancy", "Consultancy",
+            FacultyProfileDto::setConsultancy,
+            "consultancy"),
+    PATENT("patent", "patent", "Patent",
+            FacultyProfileDto::setPatent,
+            "patent", "patents"),
+    COMMUNITY_CERT("community_cert", "communityCert", "Community Certificate",
+            FacultyProfileDto::setCommunityCert,
+            "community"),
+    AADHAR("aadhar", "aadhar", "Aadhar",
+            FacultyProfileDto::setAadhar,
+            "aadhar", "aadhaar"),
+    PAN("pan", "pan", "PAN",
+            FacultyProfileDto::setPan,
+            "pan");
+
+    private static final Map<String, DocumentSlot> BY_KEY = new HashMap<>();
+
+    private static final Map<String, DocumentSlot> BY_KEYWORD = new HashMap<>();
+
+    private static final List<DocumentSlot> DOCUMENTS = Arrays.stream(values())
+            .filter(slot -> slot != PROFILE_PIC)
+            .toList();
+
+    static {
+        for (DocumentSlot slot : values()) {
+            BY_KEY.put(slot.key, slot);
+            BY_KEY.put(slot.field.toLowerCase(Locale.ROOT), slot);
+            for (String keyword : slot.keywords) {
+                BY_KEYWORD.putIfAbsent(keyword, slot);
+            }
+        }
+    }
+
+    private final String key;
+    private final String field;
+    private final String label;
+    private final BiConsumer<FacultyProfileDto, String> dtoSetter;
+    private final Set<String> keywords;
+
+    DocumentSlot(String key, String field, String label,
+                 BiConsumer<FacultyProfileDto, String> dtoSetter,
+                 String... keywords) {
+        this.key = key;
+        this.field = field;
+        this.label = label;
+        this.dtoSetter = dtoSetter;
+        this.keywords = Set.of(keywords);
+    }
+
+    /**
+     * Look a slot up by its API key (tenth_cert) or field name (tenthCert), ignoring case.
+     * Returns null if there is no such slot.
+     */
+    public static DocumentSlot fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Work out the slot for a file uploaded through the legacy multi-file form. The edit page
+     * prefixes every file with "{slot key}_", which is matched exactly; other names fall back to
+     * whole-word keywords, so e.g. "forms.pdf" no longer lands in the PG/MS slot.
+     * Returns null if nothing matches.
+     */
+    public static DocumentSlot fromUploadFilename(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        String lower = filename.toLowerCase(Locale.ROOT);
+
+        for (int i = lower.indexOf('_'); i > 0; i = lower.indexOf('_', i + 1)) {
+            DocumentSlot slot = BY_KEY.get(lower.substring(0, i));
+            if (slot != null) {
+                return slot;
+            }
+        }
+
+        int dot = lower.lastIndexOf('.');
+        String stem = dot > 0 ? lower.substring(0, dot) : lower;
+        for (String token : stem.split("[^a-z0-9]+")) {
+            DocumentSlot slot = BY_KEYWORD.get(token);
+            if (slot != null) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Every slot except the profile picture, i.e. the documents that belong in a dossier
+     */
+    public static List<DocumentSlot> documents() {
+        return DOCUMENTS;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String get(FacultyProfile profile) {
+        return profile.getDocumentPath(this);
+    }
+
+    public void set(FacultyProfileDto dto, String filePath) {
+        dtoSetter.accept(dto, filePath);
+    }
+}
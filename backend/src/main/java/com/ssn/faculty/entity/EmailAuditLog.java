@@ -1,7 +1,6 @@
 package com.ssn.faculty.entity;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -9,8 +8,11 @@ import java.time.LocalDateTime;
 @Table(name = "email_audit_log")
 public class EmailAuditLog {
     
+    // Sequence ids with a pooled optimizer let Hibernate batch the inserts made by AuditLogWriter;
+    // IDENTITY forces one round trip per row to read back the generated key.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_audit_log_seq")
+    @SequenceGenerator(name = "email_audit_log_seq", sequenceName = "email_audit_log_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,7 +37,7 @@ public class EmailAuditLog {
     @Column(name = "user_agent")
     private String userAgent;
     
-    @CreationTimestamp
+    // Stamped when the event is queued, not when the batch is flushed
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
     
@@ -0,0 +1,76 @@
+package com.ssn.faculty.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated email counts per hour, email type and status. Rows are only ever
+ * incremented, by AuditLogWriter in the same transaction that writes the raw audit log.
+ */
+@Entity
+@Table(name = "email_stats_hourly",
+       uniqueConstraints = @UniqueConstraint(name = "uk_email_stats_hourly_bucket",
+                                             columnNames = {"bucket_hour", "email_type", "status"}))
+public class EmailStatsHourly {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour;
+    
+    @Column(name = "email_type", nullable = false)
+    private String emailType;
+    
+    @Column(name = "status", nullable = false)
+    private String status;
+    
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+    
+    // Constructors
+    public EmailStatsHourly() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public LocalDateTime getBucketHour() {
+        return bucketHour;
+    }
+    
+    public void setBucketHour(LocalDateTime bucketHour) {
+        this.bucketHour = bucketHour;
+    }
+    
+    public String getEmailType() {
+        return emailType;
+    }
+    
+    public void setEmailType(String emailType) {
+        this.emailType = emailType;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public Long getEventCount() {
+        return eventCount;
+    }
+    
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+}
@@ -2,10 +2,13 @@ package com.ssn.faculty.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 @Entity
 @Table(name = "faculty_profiles")
@@ -32,9 +35,6 @@ public class FacultyProfile {
     @Column(columnDefinition = "TEXT")
     private String bio;
     
-    @Column(name = "profile_pic")
-    private String profilePic;
-    
     @Column(columnDefinition = "TEXT")
     private String qualifications;
     
@@ -47,63 +47,11 @@ public class FacultyProfile {
     @Column(columnDefinition = "TEXT")
     private String research;
     
-    // Document fields
-    @Column(name = "tenth_cert")
-    private String tenthCert;
-    
-    @Column(name = "twelfth_cert")
-    private String twelfthCert;
-    
-    @Column(name = "appointment_order")
-    private String appointmentOrder;
-    
-    @Column(name = "joining_report")
-    private String joiningReport;
-    
-    @Column(name = "ug_degree")
-    private String ugDegree;
-    
-    @Column(name = "pg_ms_consolidated")
-    private String pgMsConsolidated;
-    
-    @Column(name = "phd_degree")
-    private String phdDegree;
-    
-    @Column(name = "journals_list")
-    private String journalsList;
-    
-    @Column(name = "conferences_list")
-    private String conferencesList;
-    
-    @Column(name = "au_supervisor_letter")
-    private String auSupervisorLetter;
-    
-    @Column(name = "fdp_workshops_webinars")
-    private String fdpWorkshopsWebinars;
-    
-    @Column(name = "nptel_coursera")
-    private String nptelCoursera;
-    
-    @Column(name = "invited_talks")
-    private String invitedTalks;
-    
-    @Column(name = "projects_sanction")
-    private String projectsSanction;
-    
-    @Column(name = "consultancy")
-    private String consultancy;
-    
-    @Column(name = "patent")
-    private String patent;
-    
-    @Column(name = "community_cert")
-    private String communityCert;
-    
-    @Column(name = "aadhar")
-    private String aadhar;
-    
-    @Column(name = "pan")
-    private String pan;
+    // Uploaded documents, one per slot
+    @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @MapKey(name = "slot")
+    @BatchSize(size = 50)
+    private Map<DocumentSlot, ProfileDocument> documents = new HashMap<>();
     
     // Lock and edit request fields
     @Column(name = "is_locked")
@@ -180,14 +128,6 @@ public class FacultyProfile {
         this.bio = bio;
     }
     
-    public String getProfilePic() {
-        return profilePic;
-    }
-    
-    public void setProfilePic(String profilePic) {
-        this.profilePic = profilePic;
-    }
-    
     public String getQualifications() {
         return qualifications;
     }
@@ -220,164 +160,60 @@ public class FacultyProfile {
         this.research = research;
     }
     
-    public String getTenthCert() {
-        return tenthCert;
-    }
-    
-    public void setTenthCert(String tenthCert) {
-        this.tenthCert = tenthCert;
-    }
-    
-    public String getTwelfthCert() {
-        return twelfthCert;
-    }
-    
-    public void setTwelfthCert(String twelfthCert) {
-        this.twelfthCert = twelfthCert;
-    }
-    
-    public String getAppointmentOrder() {
-        return appointmentOrder;
-    }
-    
-    public void setAppointmentOrder(String appointmentOrder) {
-        this.appointmentOrder = appointmentOrder;
-    }
-    
-    public String getJoiningReport() {
-        return joiningReport;
-    }
-    
-    public void setJoiningReport(String joiningReport) {
-        this.joiningReport = joiningReport;
-    }
-    
-    public String getUgDegree() {
-        return ugDegree;
-    }
-    
-    public void setUgDegree(String ugDegree) {
-        this.ugDegree = ugDegree;
-    }
-    
-    public String getPgMsConsolidated() {
-        return pgMsConsolidated;
-    }
-    
-    public void setPgMsConsolidated(String pgMsConsolidated) {
-        this.pgMsConsolidated = pgMsConsolidated;
-    }
-    
-    public String getPhdDegree() {
-        return phdDegree;
-    }
-    
-    public void setPhdDegree(String phdDegree) {
-        this.phdDegree = phdDegree;
-    }
-    
-    public String getJournalsList() {
-        return journalsList;
-    }
-    
-    public void setJournalsList(String journalsList) {
-        this.journalsList = journalsList;
-    }
-    
-    public String getConferencesList() {
-        return conferencesList;
-    }
-    
-    public void setConferencesList(String conferencesList) {
-        this.conferencesList = conferencesList;
-    }
-    
-    public String getAuSupervisorLetter() {
-        return auSupervisorLetter;
-    }
-    
-    public void setAuSupervisorLetter(String auSupervisorLetter) {
-        this.auSupervisorLetter = auSupervisorLetter;
-    }
-    
-    public String getFdpWorkshopsWebinars() {
-        return fdpWorkshopsWebinars;
-    }
-    
-    public void setFdpWorkshopsWebinars(String fdpWorkshopsWebinars) {
-        this.fdpWorkshopsWebinars = fdpWorkshopsWebinars;
-    }
-    
-    public String getNptelCoursera() {
-        return nptelCoursera;
-    }
-    
-    public void setNptelCoursera(String nptelCoursera) {
-        this.nptelCoursera = nptelCoursera;
-    }
-    
-    public String getInvitedTalks() {
-        return invitedTalks;
-    }
-    
-    public void setInvitedTalks(String invitedTalks) {
-        this.invitedTalks = invitedTalks;
-    }
-    
-    public String getProjectsSanction() {
-        return projectsSanction;
-    }
-    
-    public void setProjectsSanction(String projectsSanction) {
-        this.projectsSanction = projectsSanction;
-    }
-    
-    public String getConsultancy() {
-        return consultancy;
-    }
-    
-    public void setConsultancy(String consultancy) {
-        this.consultancy = consultancy;
-    }
-    
-    public String getPatent() {
-        return patent;
-    }
-    
-    public void setPatent(String patent) {
-        this.patent = patent;
-    }
-    
-    public String getCommunityCert() {
-        return communityCert;
+    public Boolean getIsLocked() {
+        return isLocked;
     }
     
-    public void setCommunityCert(String communityCert) {
-        this.communityCert = communityCert;
+    public void setIsLocked(Boolean isLocked) {
+        this.isLocked = isLocked;
     }
     
-    public String getAadhar() {
-        return aadhar;
+    public Map<DocumentSlot, ProfileDocument> getDocuments() {
+        return documents;
     }
     
-    public void setAadhar(String aadhar) {
-        this.aadhar = aadhar;
+    public void setDocuments(Map<DocumentSlot, ProfileDocument> documents) {
+        this.documents = documents;
     }
     
-    public String getPan() {
-        return pan;
+    public ProfileDocument getDocument(DocumentSlot slot) {
+        return documents.get(slot);
     }
     
-    public void setPan(String pan) {
-        this.pan = pan;
+    public String getDocumentPath(DocumentSlot slot) {
+        ProfileDocument document = documents.get(slot);
+        return document == null ? null : document.getStorageKey();
     }
     
-    public Boolean getIsLocked() {
-        return isLocked;
+    /**
+     * Put a document in its slot. An existing row for the slot is updated in place rather than
+     * replaced, since Hibernate flushes inserts before orphan deletes and the new row would clash
+     * with the unique (profile_id, slot) key. Also bumps updatedAt, which a document-only change
+     * would otherwise leave untouched. Returns the storage key of the file it replaced, or null.
+     */
+    public String putDocument(ProfileDocument document) {
+        this.updatedAt = LocalDateTime.now();
+        ProfileDocument existing = documents.get(document.getSlot());
+        if (existing == null) {
+            document.setProfile(this);
+            documents.put(document.getSlot(), document);
+            return null;
+        }
+        String replaced = existing.getStorageKey();
+        existing.setStorageKey(document.getStorageKey());
+        existing.setSizeBytes(document.getSizeBytes());
+        existing.setSha256(document.getSha256());
+        existing.setContentType(document.getContentType());
+        existing.setUploadedAt(document.getUploadedAt());
+        return replaced;
     }
     
-    public void setIsLocked(Boolean isLocked) {
-        this.isLocked = isLocked;
+    public ProfileDocument removeDocument(DocumentSlot slot) {
+        ProfileDocument removed = documents.remove(slot);
+        if (removed != null) {
+            this.updatedAt = LocalDateTime.now();
+        }
+        return removed;
     }
     
     public LocalDateTime getLockExpiry() {
@@ -0,0 +1,117 @@
+package com.ssn.faculty.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One uploaded document of a faculty profile. Size, checksum and content type are recorded at
+ * upload time so document listings never have to look at the files themselves.
+ */
+@Entity
+@Table(name = "profile_documents",
+       uniqueConstraints = @UniqueConstraint(name = "uk_profile_documents_profile_slot",
+                                             columnNames = {"profile_id", "slot"}))
+public class ProfileDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profile_id", nullable = false)
+    private FacultyProfile profile;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private DocumentSlot slot;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private LocalDateTime uploadedAt;
+
+    // Constructors
+    public ProfileDocument() {}
+
+    public ProfileDocument(DocumentSlot slot, String storageKey) {
+        this.slot = slot;
+        this.storageKey = storageKey;
+        this.uploadedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public FacultyProfile getProfile() {
+        return profile;
+    }
+
+    public void setProfile(FacultyProfile profile) {
+        this.profile = profile;
+    }
+
+    public DocumentSlot getSlot() {
+        return slot;
+    }
+
+    public void setSlot(DocumentSlot slot) {
+        this.slot = slot;
+    }
+
+    public String getStorageKey() {
+        return storageKey;
+    }
+
+    public void setStorageKey(String storageKey) {
+        this.storageKey = storageKey;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+}
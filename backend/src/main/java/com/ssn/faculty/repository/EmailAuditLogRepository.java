@@ -10,7 +10,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Repository
 public interface EmailAuditLogRepository extends JpaRepository<EmailAuditLog, Long> {
@@ -35,7 +34,4 @@ public interface EmailAuditLogRepository extends JpaRepository<EmailAuditLog, Lo
     @Modifying
     @Query("DELETE FROM EmailAuditLog e WHERE e.sentAt < :cutoffDate")
     void deleteOldLogs(@Param("cutoffDate") LocalDateTime cutoffDate);
-    
-    @Query("SELECT e.emailType, COUNT(e) FROM EmailAuditLog e WHERE e.sentAt > :since GROUP BY e.emailType")
-    List<Object[]> getEmailTypeStats(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,36 @@
+package com.ssn.faculty.repository;
+
+import com.ssn.faculty.entity.EmailStatsHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailStatsHourlyRepository extends JpaRepository<EmailStatsHourly, Long> {
+    
+    @Modifying
+    @Query(value = "INSERT INTO email_stats_hourly (bucket_hour, email_type, status, event_count) " +
+                   "VALUES (:bucketHour, :emailType, :status, :count) " +
+                   "ON CONFLICT (bucket_hour, email_type, status) " +
+                   "DO UPDATE SET event_count = email_stats_hourly.event_count + EXCLUDED.event_count",
+           nativeQuery = true)
+    void increment(@Param("bucketHour") LocalDateTime bucketHour,
+                   @Param("emailType") String emailType,
+                   @Param("status") String status,
+                   @Param("count") long count);
+    
+    @Query("SELECT s.emailType, s.status, SUM(s.eventCount) FROM EmailStatsHourly s " +
+           "WHERE s.bucketHour >= :since GROUP BY s.emailType, s.status")
+    List<Object[]> sumByTypeAndStatusSince(@Param("since") LocalDateTime since);
+    
+    @Query(value = "SELECT CAST(date_trunc('day', bucket_hour) AS date), status, SUM(event_count) " +
+                   "FROM email_stats_hourly WHERE bucket_hour >= :since " +
+                   "GROUP BY 1, 2 ORDER BY 1, 2",
+           nativeQuery = true)
+    List<Object[]> sumByDayAndStatusSince(@Param("since") LocalDateTime since);
+}
@@ -1,24 +1,49 @@
 package com.ssn.faculty.repository;
 
+import com.ssn.faculty.dto.ProfileNameSummary;
 import com.ssn.faculty.entity.FacultyProfile;
 import com.ssn.faculty.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FacultyProfileRepository extends JpaRepository<FacultyProfile, Long> {
     Optional<FacultyProfile> findByUser(User user);
     Optional<FacultyProfile> findByUserId(Long userId);
+    
+    @Query("SELECT fp FROM FacultyProfile fp JOIN FETCH fp.user LEFT JOIN FETCH fp.documents WHERE fp.id = :id")
+    Optional<FacultyProfile> findWithUserAndDocumentsById(@Param("id") Long id);
     List<FacultyProfile> findByDepartment(String department);
     
+    @Query("SELECT fp.id AS id, fp.name AS name FROM FacultyProfile fp " +
+           "WHERE (:department IS NULL OR fp.department = :department) ORDER BY fp.id")
+    List<ProfileNameSummary> findSummariesByDepartment(@Param("department") String department);
+    
     @Query("SELECT fp FROM FacultyProfile fp WHERE fp.isLocked = :isLocked")
     List<FacultyProfile> findByLockStatus(@Param("isLocked") Boolean isLocked);
     
     @Query("SELECT fp FROM FacultyProfile fp WHERE fp.editRequested = :editRequested")
     List<FacultyProfile> findByEditRequested(@Param("editRequested") Boolean editRequested);
+    
+    /**
+     * Forward-only cursor over profiles (with their users) for exports. Must be consumed inside a
+     * transaction so PostgreSQL honours the fetch size instead of buffering the whole result.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT fp FROM FacultyProfile fp JOIN FETCH fp.user " +
+           "WHERE (:department IS NULL OR fp.department = :department) ORDER BY fp.id")
+    Stream<FacultyProfile> streamForExport(@Param("department") String department);
 }
@@ -0,0 +1,36 @@
+package com.ssn.faculty.repository;
+
+import com.ssn.faculty.entity.ProfileDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ProfileDocumentRepository extends JpaRepository<ProfileDocument, Long> {
+    List<ProfileDocument> findByProfileId(Long profileId);
+    
+    @Query("SELECT d.contentType FROM ProfileDocument d WHERE d.storageKey = :storageKey")
+    List<String> findContentTypesByStorageKey(@Param("storageKey") String storageKey);
+    
+    /**
+     * Documents migrated from the old per-column layout, which have no checksum yet
+     */
+    List<ProfileDocument> findBySha256IsNullAndIdGreaterThanOrderById(Long afterId, Pageable pageable);
+    
+    /**
+     * Record the metadata of a migrated document, unless it has been replaced, removed or filled in
+     * since it was read. Returns 0 in that case.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProfileDocument d SET d.sizeBytes = :sizeBytes, d.sha256 = :sha256, d.contentType = :contentType " +
+           "WHERE d.id = :id AND d.storageKey = :storageKey AND d.sha256 IS NULL")
+    int fillMetadata(@Param("id") Long id, @Param("storageKey") String storageKey, @Param("sizeBytes") long sizeBytes,
+                     @Param("sha256") String sha256, @Param("contentType") String contentType);
+}
@@ -1,10 +1,17 @@
 package com.ssn.faculty.repository;
 
+import com.ssn.faculty.dto.PendingUserSummary;
 import com.ssn.faculty.entity.Role;
 import com.ssn.faculty.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +20,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     List<User> findByRole(Role role);
     boolean existsByEmail(String email);
+    
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    // Keyset page over idx_users_pending_approval (see V1__baseline_schema.sql); pass the last id seen as afterId
+    @Query("SELECT u.id AS id, u.email AS email, u.createdAt AS createdAt FROM User u " +
+           "WHERE u.isEmailVerified = true AND u.isApproved = false AND u.id > :afterId ORDER BY u.id")
+    List<PendingUserSummary> findPendingApproval(@Param("afterId") long afterId, Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.isApproved = true, u.updatedAt = :now WHERE u.id IN :ids AND u.isApproved = false")
+    int approveUsers(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
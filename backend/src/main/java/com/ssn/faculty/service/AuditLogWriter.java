@@ -0,0 +1,203 @@
+package com.ssn.faculty.service;
+
+import com.ssn.faculty.entity.EmailAuditLog;
+import com.ssn.faculty.repository.EmailAuditLogRepository;
+import com.ssn.faculty.repository.EmailStatsHourlyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers email audit events off the send path and writes them to the database in JDBC batches.
+ * Events are flushed when a full batch is queued or on a fixed interval, whichever comes first,
+ * and the queue is drained on shutdown. Each batch also increments the hourly rollups in
+ * email_stats_hourly, so statistics never have to scan the raw log.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    @Autowired
+    private EmailAuditLogRepository auditLogRepository;
+
+    @Autowired
+    private EmailStatsHourlyRepository statsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${email.audit.writer.capacity:10000}")
+    private int capacity;
+
+    @Value("${email.audit.writer.batch-size:50}")
+    private int batchSize;
+
+    private final ConcurrentLinkedQueue<EmailAuditLog> queue = new ConcurrentLinkedQueue<>();
+
+    // ConcurrentLinkedQueue.size() is O(n), so the depth is tracked separately and doubles as the bound
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "audit-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TransactionTemplate transactionTemplate;
+
+    private Timer flushTimer;
+
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("email.audit.queue.depth", depth, AtomicInteger::get)
+                .description("Audit log events waiting to be written")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("email.audit.flush")
+                .description("Time taken to write one batch of audit log events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("email.audit.dropped")
+                .description("Audit log events dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue an audit event for writing. Never blocks; returns false if the queue is full
+     * and the event was dropped.
+     */
+    public boolean enqueue(EmailAuditLog entry) {
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            droppedCounter.increment();
+            logger.warn("Audit log queue full, dropping {} event for {}", entry.getEmailType(), entry.getRecipientEmail());
+            return false;
+        }
+        if (entry.getSentAt() == null) {
+            entry.setSentAt(LocalDateTime.now());
+        }
+        queue.offer(entry);
+
+        if (depth.get() >= batchSize) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Flush whatever is queued on a fixed interval so quiet periods still get written promptly
+     */
+    @Scheduled(fixedDelayString = "${email.audit.writer.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (depth.get() > 0) {
+            requestFlush();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Audit log writer did not finish in time, draining on shutdown thread");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        logger.info("Audit log writer stopped");
+    }
+
+    private void requestFlush() {
+        // Coalesce triggers so at most one flush task is waiting at a time
+        if (flushPending.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    flushPending.set(false);
+                    flush();
+                });
+            } catch (RuntimeException e) {
+                // Executor already shut down; the shutdown drain picks the events up
+                flushPending.set(false);
+            }
+        }
+    }
+
+    private synchronized void flush() {
+        List<EmailAuditLog> batch = new ArrayList<>(batchSize);
+        EmailAuditLog entry;
+        while ((entry = queue.poll()) != null) {
+            depth.decrementAndGet();
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                writeBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(List<EmailAuditLog> batch) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                auditLogRepository.saveAll(batch);
+                updateRollups(batch);
+            });
+            logger.debug("Wrote {} audit log events", batch.size());
+        } catch (Exception e) {
+            logger.error("Failed to write {} audit log events", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void updateRollups(List<EmailAuditLog> batch) {
+        Map<StatsKey, Long> counts = new HashMap<>();
+        for (EmailAuditLog entry : batch) {
+            StatsKey key = new StatsKey(entry.getSentAt().truncatedTo(ChronoUnit.HOURS), entry.getEmailType(), entry.getStatus());
+            counts.merge(key, 1L, Long::sum);
+        }
+        counts.forEach((key, count) -> statsRepository.increment(key.hour(), key.emailType(), key.status(), count));
+    }
+
+    private record StatsKey(LocalDateTime hour, String emailType, String status) {}
+}
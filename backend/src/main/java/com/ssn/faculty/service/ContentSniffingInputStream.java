@@ -0,0 +1,113 @@
+package com.ssn.faculty.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Passes bytes through unchanged while keeping the first few, so the real type of a file can be
+ * told from its signature during the same copy that stores it. When a set of accepted types is
+ * given, reading fails as soon as the signature is known not to be one of them.
+ */
+class ContentSniffingInputStream extends FilterInputStream {
+
+    static final String OCTET_STREAM = "application/octet-stream";
+
+    private static final int HEADER_LENGTH = 8;
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    // OOXML documents (docx) are ZIP archives
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04};
+    // Legacy Word documents are OLE2 compound files
+    private static final byte[] OLE2 = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+
+    private final byte[] header = new byte[HEADER_LENGTH];
+    private final Set<String> acceptedTypes;
+    private final String description;
+    private int headerLength;
+    private boolean checked;
+
+    /**
+     * @param acceptedTypes types the content must have, or null to only detect
+     * @param description   how to refer to the expected type in the error, e.g. ".pdf"
+     */
+    ContentSniffingInputStream(InputStream in, Set<String> acceptedTypes, String description) {
+        super(in);
+        this.acceptedTypes = acceptedTypes;
+        this.description = description;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            capture(new byte[]{(byte) b}, 0, 1);
+        } else {
+            check();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            capture(b, off, n);
+        } else if (n < 0) {
+            check();
+        }
+        return n;
+    }
+
+    /**
+     * The MIME type matching the signature read so far, or application/octet-stream
+     */
+    String getDetectedType() {
+        if (startsWith(PDF)) {
+            return "application/pdf";
+        }
+        if (startsWith(PNG)) {
+            return "image/png";
+        }
+        if (startsWith(JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(ZIP)) {
+            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        }
+        if (startsWith(OLE2)) {
+            return "application/msword";
+        }
+        return OCTET_STREAM;
+    }
+
+    private void capture(byte[] b, int off, int n) throws IOException {
+        if (headerLength < HEADER_LENGTH) {
+            int copy = Math.min(n, HEADER_LENGTH - headerLength);
+            System.arraycopy(b, off, header, headerLength, copy);
+            headerLength += copy;
+            if (headerLength == HEADER_LENGTH) {
+                check();
+            }
+        }
+    }
+
+    private void check() throws IOException {
+        if (checked) {
+            return;
+        }
+        checked = true;
+        if (acceptedTypes != null && !acceptedTypes.contains(getDetectedType())) {
+            throw new IOException("File content does not match its " + description + " extension");
+        }
+    }
+
+    private boolean startsWith(byte[] signature) {
+        return headerLength >= signature.length
+                && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+}
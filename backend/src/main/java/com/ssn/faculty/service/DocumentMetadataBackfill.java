@@ -0,0 +1,77 @@
+package com.ssn.faculty.service;
+
+import com.ssn.faculty.entity.ProfileDocument;
+import com.ssn.faculty.repository.ProfileDocumentRepository;
+import com.ssn.faculty.service.FileStorageService.StoredFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills in size, checksum and content type for documents migrated from the old per-column
+ * layout, which only carried the stored path. Runs once in the background after startup and
+ * finds nothing to do once every row has been filled in.
+ */
+@Component
+public class DocumentMetadataBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentMetadataBackfill.class);
+
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private ProfileDocumentRepository documentRepository;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    @Qualifier("storageExecutor")
+    private TaskExecutor storageExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        storageExecutor.execute(this::backfill);
+    }
+
+    void backfill() {
+        long lastId = 0;
+        int filled = 0;
+        int missing = 0;
+        List<ProfileDocument> batch;
+        do {
+            batch = documentRepository.findBySha256IsNullAndIdGreaterThanOrderById(lastId, PageRequest.of(0, BATCH_SIZE));
+            for (ProfileDocument document : batch) {
+                lastId = document.getId();
+                try {
+                    StoredFile stored = fileStorageService.describeStoredFile(document.getStorageKey());
+                    if (stored == null) {
+                        // Keep the row so the slot still shows up; there is nothing on disk to describe
+                        missing++;
+                        continue;
+                    }
+                    // Only these columns are written, and only if the row still points at the file
+                    // that was read; saving the loaded entity would undo a replace or remove made meanwhile
+                    if (documentRepository.fillMetadata(document.getId(), document.getStorageKey(),
+                            stored.size(), stored.sha256(), stored.contentType()) > 0) {
+                        filled++;
+                    }
+                } catch (Exception e) {
+                    logger.warn("Could not read metadata for document {}: {}", document.getId(), e.getMessage());
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (filled > 0 || missing > 0) {
+            logger.info("Document metadata backfill: {} filled in, {} files missing", filled, missing);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.ssn.faculty.service;
+
+import com.ssn.faculty.dto.ProfileNameSummary;
+import com.ssn.faculty.dto.ReportJobStatus;
+import com.ssn.faculty.repository.FacultyProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Background jobs that bundle the dossiers of a whole department into one ZIP. Dossiers are rendered
+ * in parallel on the shared dossierReportPool (reusing the per-profile dossier cache) and written
+ * into a ZIP on disk as each one finishes. Jobs and their files are kept for a limited time.
+ */
+@Service
+public class DossierReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DossierReportService.class);
+
+    private static final int MAX_REPORTED_FAILURES = 50;
+
+    @Autowired
+    private FacultyProfileRepository profileRepository;
+
+    @Autowired
+    private DossierService dossierService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    @Qualifier("dossierReportPool")
+    private ForkJoinPool reportPool;
+
+    @Value("${app.reports.max-active-jobs:2}")
+    private int maxActiveJobs;
+
+    @Value("${app.reports.retention-hours:24}")
+    private int retentionHours;
+
+    private final Map<String, DossierJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Start a dossier bundle for one department (or every profile when department is blank)
+     */
+    public synchronized ReportJobStatus startDossierJob(String department) throws IOException {
+        long active = jobs.values().stream().filter(job -> !job.isFinished()).count();
+        if (active >= maxActiveJobs) {
+            throw new RuntimeException("Too many report jobs are running, please try again later");
+        }
+
+        String filter = department == null || department.isBlank() ? null : department.trim();
+        List<ProfileNameSummary> profiles = profileRepository.findSummariesByDepartment(filter);
+        if (profiles.isEmpty()) {
+            throw new RuntimeException(filter == null ? "No faculty profiles found" : "No faculty profiles found in " + filter);
+        }
+
+        Path dir = fileStorageService.getUploadRoot().resolve(".cache").resolve("reports");
+        Files.createDirectories(dir);
+
+        String jobId = UUID.randomUUID().toString();
+        DossierJob job = new DossierJob(jobId, filter, profiles.size(), dir.resolve(jobId + ".zip"));
+        jobs.put(jobId, job);
+        reportPool.execute(() -> run(job, profiles));
+
+        logger.info("Started dossier report {} for {} profiles", jobId, profiles.size());
+        return job.toStatus();
+    }
+
+    public ReportJobStatus getStatus(String jobId) {
+        DossierJob job = jobs.get(jobId);
+        return job == null ? null : job.toStatus();
+    }
+
+    /**
+     * The finished ZIP for a job, or null if the job is unknown or not complete
+     */
+    public Path getResult(String jobId) {
+        DossierJob job = jobs.get(jobId);
+        if (job == null || !ReportJobStatus.COMPLETED.equals(job.status)) {
+            return null;
+        }
+        return job.file;
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    public void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.finishedAt.isAfter(cutoff)) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(job.file);
+            } catch (IOException e) {
+                logger.warn("Could not delete expired report {}: {}", job.file, e.getMessage());
+            }
+            return true;
+        });
+    }
+
+    private void run(DossierJob job, List<ProfileNameSummary> profiles) {
+        job.status = ReportJobStatus.RUNNING;
+        Path partial = job.file.resolveSibling(job.file.getFileName() + ".part");
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+            // PDFs are already compressed internally, so spend as little CPU as possible re-deflating them
+            zip.setLevel(Deflater.BEST_SPEED);
+
+            // A parallel stream started from inside a pool task runs its subtasks on that same pool
+            profiles.parallelStream().forEach(profile -> {
+                try {
+                    Path dossier = dossierService.getOrRenderDossier(profile.getId());
+                    synchronized (zip) {
+                        zip.putNextEntry(new ZipEntry(entryName(profile)));
+                        Files.copy(dossier, zip);
+                        zip.closeEntry();
+                    }
+                    job.completed.incrementAndGet();
+                } catch (Exception e) {
+                    logger.warn("Dossier for profile {} failed in report {}: {}", profile.getId(), job.id, e.getMessage());
+                    job.failed.incrementAndGet();
+                    if (job.failures.size() < MAX_REPORTED_FAILURES) {
+                        job.failures.add(profile.getId() + " " + profile.getName() + ": " + e.getMessage());
+                    }
+                }
+            });
+
+            if (!job.failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("errors.txt"));
+                zip.write(String.join("\n", job.failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+        } catch (Exception e) {
+            logger.error("Dossier report {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.finish(ReportJobStatus.FAILED);
+            deleteQuietly(partial);
+            return;
+        }
+
+        try {
+            Files.move(partial, job.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.finish(ReportJobStatus.COMPLETED);
+            logger.info("Dossier report {} finished: {} included, {} failed", job.id, job.completed.get(), job.failed.get());
+        } catch (IOException e) {
+            job.error = e.getMessage();
+            job.finish(ReportJobStatus.FAILED);
+            deleteQuietly(partial);
+        }
+    }
+
+    private String entryName(ProfileNameSummary profile) {
+        String name = profile.getName() == null ? "" : profile.getName().replaceAll("[^A-Za-z0-9._-]+", "_");
+        return name + "-" + profile.getId() + ".pdf";
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static class DossierJob {
+        private final String id;
+        private final String department;
+        private final int total;
+        private final Path file;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        private volatile String status = ReportJobStatus.QUEUED;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        DossierJob(String id, String department, int total, Path file) {
+            this.id = id;
+            this.department = department;
+            this.total = total;
+            this.file = file;
+        }
+
+        boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        void finish(String finalStatus) {
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        ReportJobStatus toStatus() {
+            ReportJobStatus status = new ReportJobStatus();
+            status.setJobId(id);
+            status.setDepartment(department);
+            status.setStatus(this.status);
+            status.setTotal(total);
+            status.setCompleted(completed.get());
+            status.setFailed(failed.get());
+            status.setPercent(total == 0 ? 100 : (completed.get() + failed.get()) * 100 / total);
+            status.setError(error);
+            synchronized (failures) {
+                status.setFailures(new ArrayList<>(failures));
+            }
+            status.setCreatedAt(createdAt);
+            status.setFinishedAt(finishedAt);
+            return status;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.ssn.faculty.service;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.UnitValue;
+import com.ssn.faculty.entity.DocumentSlot;
+import com.ssn.faculty.entity.FacultyProfile;
+import com.ssn.faculty.entity.ProfileDocument;
+import com.ssn.faculty.repository.FacultyProfileRepository;
+import com.ssn.faculty.service.FileStorageService.StoredContent;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds a single PDF per faculty member: a cover section with the profile fields followed by
+ * every stored PDF and image document. Output is written page by page while it is generated and
+ * kept on disk under {upload-dir}/.cache/dossiers, keyed by the profile's updatedAt, so repeat
+ * downloads are served straight from the cached file.
+ */
+@Service
+public class DossierService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DossierService.class);
+
+    private static final Set<String> PDF_EXTENSIONS = Set.of("pdf");
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+    private static final Set<String> PDF_TYPES = Set.of("application/pdf");
+    private static final Set<String> IMAGE_TYPES = Set.of("image/jpeg", "image/png");
+
+    @Autowired
+    private FacultyProfileRepository profileRepository;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    /**
+     * Write the dossier for a profile to the given stream, serving the cached copy when it is
+     * current and otherwise rendering it to the stream and the cache at the same time.
+     */
+    public void writeDossier(Long profileId, OutputStream out) throws IOException {
+        FacultyProfile profile = loadProfile(profileId);
+        Path cached = cacheFile(profile);
+        if (Files.isRegularFile(cached)) {
+            Files.copy(cached, out);
+            return;
+        }
+
+        Path temp = Files.createTempFile(cached.getParent(), cached.getFileName().toString(), ".tmp");
+        try (OutputStream cacheOut = Files.newOutputStream(temp)) {
+            render(profile, new TeeOutputStream(out, cacheOut));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        publish(profile, temp, cached);
+    }
+
+    /**
+     * Return the cached dossier file for a profile, rendering it first if needed
+     */
+    public Path getOrRenderDossier(Long profileId) throws IOException {
+        FacultyProfile profile = loadProfile(profileId);
+        Path cached = cacheFile(profile);
+        if (Files.isRegularFile(cached)) {
+            return cached;
+        }
+
+        Path temp = Files.createTempFile(cached.getParent(), cached.getFileName().toString(), ".tmp");
+        try (OutputStream cacheOut = Files.newOutputStream(temp)) {
+            render(profile, cacheOut);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        publish(profile, temp, cached);
+        return cached;
+    }
+
+    private FacultyProfile loadProfile(Long profileId) {
+        // Loaded up front so no connection is held while the PDF is generated
+        return profileRepository.findWithUserAndDocumentsById(profileId)
+                .orElseThrow(() -> new RuntimeException("Profile not found"));
+    }
+
+    private Path cacheFile(FacultyProfile profile) throws IOException {
+        Path dir = fileStorageService.getUploadRoot().resolve(".cache").resolve("dossiers");
+        Files.createDirectories(dir);
+        long version = profile.getUpdatedAt() != null
+                ? profile.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        return dir.resolve("dossier-" + profile.getId() + "-" + version + ".pdf");
+    }
+
+    private void publish(FacultyProfile profile, Path temp, Path cached) throws IOException {
+        Files.move(temp, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // Drop dossiers rendered for earlier versions of this profile
+        String prefix = "dossier-" + profile.getId() + "-";
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(cached.getParent(), prefix + "*.pdf")) {
+            for (Path old : stale) {
+                if (!old.equals(cached)) {
+                    Files.deleteIfExists(old);
+                }
+            }
+        }
+        logger.info("Rendered dossier for profile {}", profile.getId());
+    }
+
+    private void render(FacultyProfile profile, OutputStream out) throws IOException {
+        List<ResolvedDocument> documents = resolveDocuments(profile);
+
+        PdfWriter writer = new PdfWriter(out);
+        // The caller owns the stream (it may be the HTTP response)
+        writer.setCloseStream(false);
+        try (PdfDocument pdf = new PdfDocument(writer)) {
+            PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+
+            appendPdf(pdf, new PdfReader(new ByteArrayInputStream(renderCover(profile, documents))));
+
+            for (ResolvedDocument document : documents) {
+                if (document.content() == null) {
+                    continue;
+                }
+                try {
+                    if (document.kind() == Kind.PDF && document.content().compressed()) {
+                        appendPdf(pdf, new PdfReader(fileStorageService.openStoredFile(document.storageKey())));
+                    } else if (document.kind() == Kind.PDF) {
+                        // Opened by path so iText reads pages on demand instead of loading the file
+                        appendPdf(pdf, new PdfReader(document.content().path().toString()));
+                    } else {
+                        appendImage(pdf, ImageDataFactory.create(document.content().path().toString()));
+                    }
+                } catch (Exception e) {
+                    logger.warn("Could not include {} for profile {}: {}", document.label(), profile.getId(), e.getMessage());
+                    appendNotice(pdf, font, document.label() + " could not be read and was left out of this dossier.");
+                }
+            }
+        }
+    }
+
+    private List<ResolvedDocument> resolveDocuments(FacultyProfile profile) {
+        List<ResolvedDocument> documents = new ArrayList<>();
+        for (DocumentSlot slot : DocumentSlot.documents()) {
+            ProfileDocument document = profile.getDocument(slot);
+            if (document == null || document.getStorageKey().isBlank()) {
+                continue;
+            }
+            String stored = document.getStorageKey();
+            StoredContent content = fileStorageService.locateStoredFile(stored);
+            Kind kind;
+            if (document.getContentType() != null) {
+                kind = PDF_TYPES.contains(document.getContentType()) ? Kind.PDF
+                        : IMAGE_TYPES.contains(document.getContentType()) ? Kind.IMAGE
+                        : Kind.OTHER;
+            } else {
+                // Migrated rows whose metadata has not been filled in yet
+                String extension = fileStorageService.getFileExtension(stored).toLowerCase();
+                kind = PDF_EXTENSIONS.contains(extension) ? Kind.PDF
+                        : IMAGE_EXTENSIONS.contains(extension) ? Kind.IMAGE
+                        : Kind.OTHER;
+            }
+            documents.add(new ResolvedDocument(slot.getLabel(), stored, kind, kind == Kind.OTHER ? null : content, content != null));
+        }
+        return documents;
+    }
+
+    /**
+     * The cover is at most a page or two, so it is laid out in memory and then copied in like any other PDF
+     */
+    private byte[] renderCover(FacultyProfile profile, List<ResolvedDocument> documents) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (Document cover = new Document(new PdfDocument(new PdfWriter(buffer)), PageSize.A4)) {
+            cover.add(new Paragraph(profile.getName()).setFontSize(20).setBold());
+            cover.add(new Paragraph("Faculty Dossier").setFontSize(12));
+
+            Table fields = new Table(UnitValue.createPercentArray(new float[]{30, 70})).useAllAvailableWidth();
+            addField(fields, "Email", profile.getUser().getEmail());
+            addField(fields, "Phone", profile.getUser().getPhoneNumber());
+            addField(fields, "Department", profile.getDepartment());
+            addField(fields, "Designation", profile.getRole());
+            addField(fields, "Date of Joining", profile.getDateOfJoining());
+            addField(fields, "Qualifications", profile.getQualifications());
+            addField(fields, "Experience", profile.getExperience());
+            addField(fields, "Research", profile.getResearch());
+            addField(fields, "Bio", profile.getBio());
+            cover.add(fields);
+
+            cover.add(new Paragraph("Documents").setFontSize(14).setBold().setMarginTop(16));
+            Table contents = new Table(UnitValue.createPercentArray(new float[]{50, 50})).useAllAvailableWidth();
+            for (ResolvedDocument document : documents) {
+                String status = !document.exists() ? "Missing file"
+                        : document.kind() == Kind.OTHER ? "Not included (not a PDF or image)"
+                        : "Included";
+                addField(contents, document.label(), status);
+            }
+            if (documents.isEmpty()) {
+                cover.add(new Paragraph("No documents uploaded."));
+            } else {
+                cover.add(contents);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private void addField(Table table, String label, String value) {
+        table.addCell(new Cell().add(new Paragraph(label).setBold()));
+        table.addCell(new Cell().add(new Paragraph(value == null || value.isBlank() ? "-" : value)));
+    }
+
+    private void appendPdf(PdfDocument target, PdfReader source) {
+        try (PdfDocument document = new PdfDocument(source)) {
+            int first = target.getNumberOfPages() + 1;
+            document.copyPagesTo(1, document.getNumberOfPages(), target);
+            flushFrom(target, first);
+        }
+    }
+
+    private void appendImage(PdfDocument target, ImageData image) {
+        PdfPage page = target.addNewPage(PageSize.A4);
+        Rectangle area = page.getPageSize().clone().applyMargins(36, 36, 36, 36, false);
+        new PdfCanvas(page).addImageFittedIntoRectangle(image, fit(image, area), false);
+        page.flush();
+    }
+
+    private void appendNotice(PdfDocument target, PdfFont font, String text) {
+        PdfPage page = target.addNewPage(PageSize.A4);
+        new PdfCanvas(page)
+                .beginText()
+                .setFontAndSize(font, 12)
+                .moveText(36, page.getPageSize().getHeight() - 72)
+                .showText(text)
+                .endText();
+        page.flush();
+    }
+
+    // Write finished pages out immediately instead of holding them until the document closes
+    private void flushFrom(PdfDocument target, int firstPage) {
+        for (int i = firstPage; i <= target.getNumberOfPages(); i++) {
+            target.getPage(i).flush();
+        }
+    }
+
+    private Rectangle fit(ImageData image, Rectangle area) {
+        float scale = Math.min(area.getWidth() / image.getWidth(), area.getHeight() / image.getHeight());
+        float width = image.getWidth() * scale;
+        float height = image.getHeight() * scale;
+        return new Rectangle(area.getX() + (area.getWidth() - width) / 2,
+                area.getY() + area.getHeight() - height, width, height);
+    }
+
+    private enum Kind { PDF, IMAGE, OTHER }
+
+    private record ResolvedDocument(String label, String storageKey, Kind kind, StoredContent content, boolean exists) {}
+}
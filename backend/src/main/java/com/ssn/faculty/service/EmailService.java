@@ -1,5 +1,6 @@
 package com.ssn.faculty.service;
 
+import com.ssn.faculty.dto.AddFacultyRequest;
 import com.ssn.faculty.entity.EmailVerificationToken;
 import com.ssn.faculty.entity.EmailOtp;
 import com.ssn.faculty.entity.PasswordResetToken;
@@ -14,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -24,6 +26,7 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,6 +54,9 @@ public class EmailService {
     @Autowired
     private EmailOtpRepository emailOtpRepository;
     
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+    
     @Value("${spring.mail.username}")
     private String fromEmail;
     
@@ -72,19 +78,13 @@ public class EmailService {
     @Value("${email.rate-limit.per-day:50}")
     private int rateLimitPerDay;
     
+    @Value("${email.registration.batch-size:50}")
+    private int registrationBatchSize;
+    
     @Async
     public void sendRegistrationEmail(String toEmail, String name, String password) {
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("Welcome to SSN Faculty Profile System");
-            
-            String htmlContent = createRegistrationEmailContent(name, toEmail, password);
-            helper.setText(htmlContent, true);
-            
+            MimeMessage message = createRegistrationMessage(toEmail, name, password);
             mailSender.send(message);
             logger.info("Registration email sent successfully to: {}", toEmail);
             
@@ -93,6 +93,43 @@ public class EmailService {
         }
     }
     
+    /**
+     * Send welcome emails for a bulk import. Messages are handed to the mail sender in groups,
+     * and each group goes out over a single SMTP connection.
+     */
+    @Async
+    public void sendRegistrationEmails(List<AddFacultyRequest> recipients) {
+        List<MimeMessage> messages = new ArrayList<>(recipients.size());
+        for (AddFacultyRequest recipient : recipients) {
+            try {
+                messages.add(createRegistrationMessage(recipient.getEmail(), recipient.getName(), recipient.getPassword()));
+            } catch (MessagingException e) {
+                logger.error("Failed to build registration email for: {}", recipient.getEmail(), e);
+            }
+        }
+        
+        for (int start = 0; start < messages.size(); start += registrationBatchSize) {
+            List<MimeMessage> batch = messages.subList(start, Math.min(start + registrationBatchSize, messages.size()));
+            try {
+                mailSender.send(batch.toArray(new MimeMessage[0]));
+            } catch (MailException e) {
+                logger.error("Failed to send {} registration emails", batch.size(), e);
+            }
+        }
+        logger.info("Registration emails sent for {} imported faculty members", messages.size());
+    }
+    
+    private MimeMessage createRegistrationMessage(String toEmail, String name, String password) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        
+        helper.setFrom(fromEmail);
+        helper.setTo(toEmail);
+        helper.setSubject("Welcome to SSN Faculty Profile System");
+        helper.setText(createRegistrationEmailContent(name, toEmail, password), true);
+        return message;
+    }
+    
     @Async
     public void sendEditRequestNotification(List<String> managerEmails, String facultyName, String facultyEmail, String department) {
         try {
@@ -362,21 +399,19 @@ public class EmailService {
         return true;
     }
     
-    // Email Audit Logging
-    @Transactional
+    // Email Audit Logging (written asynchronously in batches by AuditLogWriter)
     public void logEmailActivity(User user, String emailType, String recipientEmail, 
                                 String status, String ipAddress, String userAgent) {
         logEmailActivity(user, emailType, recipientEmail, status, ipAddress, userAgent, null);
     }
     
-    @Transactional
     public void logEmailActivity(User user, String emailType, String recipientEmail, 
                                 String status, String ipAddress, String userAgent, String errorMessage) {
         EmailAuditLog auditLog = new EmailAuditLog(user, emailType, recipientEmail, status);
         auditLog.setIpAddress(ipAddress);
         auditLog.setUserAgent(userAgent);
         auditLog.setErrorMessage(errorMessage);
-        auditLogRepository.save(auditLog);
+        auditLogWriter.enqueue(auditLog);
     }
     
     // Utility methods
@@ -399,7 +434,7 @@ public class EmailService {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
     
-    private String createRegistrationEmailContent(String name, String email, String password) {
+    String createRegistrationEmailContent(String name, String email, String password) {
         return String.format("""
             <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;">
                 <h2 style="color: #2c3e50;">Welcome to SSN Faculty Profile System</h2>
@@ -416,7 +451,7 @@ public class EmailService {
             """, name, email, password);
     }
     
-    private String createEditRequestEmailContent(String facultyName, String facultyEmail, String department) {
+    String createEditRequestEmailContent(String facultyName, String facultyEmail, String department) {
         return String.format("""
             <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;">
                 <h2 style="color: #2c3e50;">New Faculty Profile Edit Request</h2>
@@ -432,7 +467,7 @@ public class EmailService {
             """, facultyName, facultyEmail, department);
     }
     
-    private String createVerificationEmailContent(String name, String verificationUrl) {
+    String createVerificationEmailContent(String name, String verificationUrl) {
         return String.format("""
             <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;">
                 <h2 style="color: #2c3e50;">Verify Your Email Address</h2>
@@ -460,7 +495,7 @@ public class EmailService {
             """, name, verificationUrl, verificationUrl);
     }
     
-    private String createPasswordResetEmailContent(String name, String resetUrl) {
+    String createPasswordResetEmailContent(String name, String resetUrl) {
         return String.format("""
             <div style="font-family: Arial, sans-serif; max-width: 600px; margin: 0 auto;">
                 <h2 style="color: #2c3e50;">Password Reset Request</h2>
@@ -0,0 +1,75 @@
+package com.ssn.faculty.service;
+
+import com.ssn.faculty.repository.EmailStatsHourlyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+public class EmailStatsService {
+    
+    @Autowired
+    private EmailStatsHourlyRepository statsRepository;
+    
+    @Value("${email.stats.max-days:365}")
+    private int maxDays;
+    
+    /**
+     * Email counts for the last {@code days} days, read from the hourly rollups
+     * (at most 24 rows per day per email type and status).
+     */
+    public Map<String, Object> getEmailStats(int days) {
+        int window = Math.max(1, Math.min(days, maxDays));
+        LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(window - 1L);
+        
+        long total = 0;
+        Map<String, Long> byStatus = new HashMap<>();
+        Map<String, Map<String, Long>> byType = new HashMap<>();
+        for (Object[] row : statsRepository.sumByTypeAndStatusSince(since)) {
+            String emailType = (String) row[0];
+            String status = (String) row[1];
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            byStatus.merge(status, count, Long::sum);
+            byType.computeIfAbsent(emailType, k -> new HashMap<>()).merge(status, count, Long::sum);
+        }
+        
+        Map<LocalDate, Map<String, Object>> dailyByDate = new LinkedHashMap<>();
+        for (Object[] row : statsRepository.sumByDayAndStatusSince(since)) {
+            LocalDate date = toLocalDate(row[0]);
+            Map<String, Object> day = dailyByDate.computeIfAbsent(date, d -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("date", d);
+                return entry;
+            });
+            day.put((String) row[1], ((Number) row[2]).longValue());
+        }
+        
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("days", window);
+        stats.put("since", since);
+        stats.put("total", total);
+        stats.put("byStatus", byStatus);
+        stats.put("byType", byType);
+        stats.put("daily", new ArrayList<>(dailyByDate.values()));
+        return stats;
+    }
+    
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssn.faculty.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ssn.faculty.entity.FacultyProfile;
+import com.ssn.faculty.repository.FacultyProfileRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Streams the faculty directory as CSV or NDJSON straight from a database cursor. Rows are written
+ * and detached one at a time, so memory use does not grow with the number of profiles.
+ */
+@Service
+public class FacultyExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyExportService.class);
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final Pattern PHONE_LIKE = Pattern.compile("[+-]?[0-9 ()-]+");
+
+    // Header names match the columns FacultyImportService understands, so an export can be re-imported
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", FacultyProfile::getId),
+            new Column("name", FacultyProfile::getName),
+            new Column("email", p -> p.getUser().getEmail()),
+            new Column("phone_number", p -> p.getUser().getPhoneNumber()),
+            new Column("department", FacultyProfile::getDepartment),
+            new Column("role", FacultyProfile::getRole),
+            new Column("date_of_joining", FacultyProfile::getDateOfJoining),
+            new Column("qualifications", FacultyProfile::getQualifications),
+            new Column("experience", FacultyProfile::getExperience),
+            new Column("research", FacultyProfile::getResearch),
+            new Column("bio", FacultyProfile::getBio),
+            new Column("created_at", FacultyProfile::getCreatedAt),
+            new Column("updated_at", FacultyProfile::getUpdatedAt)
+    );
+
+    @Autowired
+    private FacultyProfileRepository profileRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public static boolean isSupportedFormat(String format) {
+        return FORMAT_CSV.equals(format) || FORMAT_NDJSON.equals(format);
+    }
+
+    /**
+     * Write every profile (optionally limited to one department) to the given stream.
+     * Runs in its own read-only transaction because the cursor only stays open inside one.
+     */
+    @Transactional(readOnly = true)
+    public long export(String format, String department, OutputStream out) throws IOException {
+        String filter = department == null || department.isBlank() ? null : department.trim();
+        long count;
+        try (Stream<FacultyProfile> profiles = profileRepository.streamForExport(filter)) {
+            count = FORMAT_NDJSON.equals(format) ? writeNdjson(profiles, out) : writeCsv(profiles, out);
+        }
+        logger.info("Exported {} faculty profiles as {}", count, format);
+        return count;
+    }
+
+    private long writeCsv(Stream<FacultyProfile> profiles, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // BOM so Excel opens the file as UTF-8
+        writer.write('\uFEFF');
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(COLUMNS.get(i).name());
+        }
+        writer.write("\r\n");
+
+        long count = 0;
+        Iterator<FacultyProfile> iterator = profiles.iterator();
+        while (iterator.hasNext()) {
+            FacultyProfile profile = iterator.next();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, COLUMNS.get(i).value().apply(profile));
+            }
+            writer.write("\r\n");
+            detach(profile);
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Stream<FacultyProfile> profiles, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Let the generator buffer; by default every writeValue flushes straight to the socket
+        ObjectWriter valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        long count = 0;
+        Iterator<FacultyProfile> iterator = profiles.iterator();
+        while (iterator.hasNext()) {
+            FacultyProfile profile = iterator.next();
+            generator.writeStartObject();
+            for (Column column : COLUMNS) {
+                generator.writeFieldName(column.name());
+                valueWriter.writeValue(generator, column.value().apply(profile));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            detach(profile);
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        // Neutralise spreadsheet formulas in free-text fields; phone numbers like +91 ... are left alone
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !PHONE_LIKE.matcher(text).matches()) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    private void detach(FacultyProfile profile) {
+        // Keep the persistence context from accumulating every row of the export
+        entityManager.detach(profile.getUser());
+        entityManager.detach(profile);
+    }
+
+    private record Column(String name, Function<FacultyProfile, Object> value) {}
+}
@@ -0,0 +1,472 @@
+package com.ssn.faculty.service;
+
+import com.ssn.faculty.dto.AddFacultyRequest;
+import com.ssn.faculty.dto.FacultyImportResult;
+import com.ssn.faculty.dto.FacultyImportResult.RowResult;
+import com.ssn.faculty.entity.Role;
+import com.ssn.faculty.repository.UserRepository;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.ObjIntConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk onboarding of faculty members from a CSV or XLSX sheet. Rows are streamed and handled
+ * in chunks: one email lookup per chunk, BCrypt hashing in parallel, and JDBC batch inserts
+ * for users and profiles. Welcome emails for a chunk go out over a single SMTP connection.
+ */
+@Service
+public class FacultyImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyImportService.class);
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final String PASSWORD_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnpqrstuvwxyz23456789";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, password, phone_number, role, is_active, is_email_verified, is_approved, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, true, false, false, ?, ?)";
+
+    private static final String INSERT_PROFILE_SQL =
+            "INSERT INTO faculty_profiles (user_id, name, department, role, bio, qualifications, experience, research, " +
+            "date_of_joining, is_locked, edit_requested, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, false, ?, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private Executor passwordHashExecutor;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    private final SecureRandom random = new SecureRandom();
+
+    public FacultyImportResult importFaculty(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("Import file is empty");
+        }
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+
+        FacultyImportResult result = new FacultyImportResult();
+        ImportSession session = new ImportSession(result);
+        try {
+            if (filename.endsWith(".csv")) {
+                try (InputStream in = file.getInputStream()) {
+                    readCsv(in, session::acceptRow);
+                }
+            } else if (filename.endsWith(".xlsx")) {
+                readXlsx(file, session::acceptRow);
+            } else {
+                throw new RuntimeException("Unsupported import file type. Use .csv or .xlsx");
+            }
+            session.finish();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import file: " + e.getMessage(), e);
+        }
+
+        logger.info("Faculty import finished: {} rows, {} created, {} skipped, {} failed",
+                result.getTotalRows(), result.getCreated(), result.getSkipped(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Tracks the header mapping and the current chunk while rows stream in.
+     */
+    private class ImportSession {
+        private final FacultyImportResult result;
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<PendingRow> chunk = new ArrayList<>();
+        private Map<String, Integer> columns;
+
+        ImportSession(FacultyImportResult result) {
+            this.result = result;
+        }
+
+        // rowNumber is the 1-based row in the file, as shown in a spreadsheet
+        void acceptRow(List<String> cells, int rowNumber) {
+            if (columns == null) {
+                columns = mapHeader(cells);
+                return;
+            }
+            if (cells.stream().allMatch(c -> c == null || c.isBlank())) {
+                return;
+            }
+            chunk.add(new PendingRow(rowNumber, toRequest(cells, columns)));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            if (columns == null) {
+                throw new RuntimeException("Import file has no header row");
+            }
+            flush();
+        }
+
+        private void flush() {
+            if (!chunk.isEmpty()) {
+                processChunk(new ArrayList<>(chunk), seenEmails, result);
+                chunk.clear();
+            }
+        }
+    }
+
+    private void processChunk(List<PendingRow> rows, Set<String> seenEmails, FacultyImportResult result) {
+        // Validate locally first so only plausible rows reach the database
+        List<PendingRow> candidates = new ArrayList<>();
+        for (PendingRow row : rows) {
+            String error = validate(row.request);
+            if (error != null) {
+                row.result = new RowResult(row.rowNumber, row.request.getEmail(), FacultyImportResult.FAILED, error);
+            } else if (!seenEmails.add(row.request.getEmail())) {
+                row.result = new RowResult(row.rowNumber, row.request.getEmail(), FacultyImportResult.SKIPPED, "Duplicate email in import file");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // One lookup for the whole chunk instead of existsByEmail per row
+        if (!candidates.isEmpty()) {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                    candidates.stream().map(r -> r.request.getEmail()).toList()));
+            candidates.removeIf(row -> {
+                if (existing.contains(row.request.getEmail())) {
+                    row.result = new RowResult(row.rowNumber, row.request.getEmail(), FacultyImportResult.SKIPPED, "Email already registered");
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!candidates.isEmpty()) {
+            insertChunk(candidates);
+        }
+
+        for (PendingRow row : rows) {
+            result.addRow(row.result);
+        }
+    }
+
+    private void insertChunk(List<PendingRow> rows) {
+        for (PendingRow row : rows) {
+            if (row.request.getPassword() == null || row.request.getPassword().isBlank()) {
+                row.request.setPassword(generatePassword());
+            }
+        }
+        CompletableFuture.allOf(rows.stream()
+                .map(row -> CompletableFuture.runAsync(
+                        () -> row.passwordHash = passwordEncoder.encode(row.request.getPassword()), passwordHashExecutor))
+                .toArray(CompletableFuture[]::new)).join();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            Map<String, Long> userIds = new TransactionTemplate(transactionManager).execute(status -> {
+                jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, rows.size(), (ps, row) -> {
+                    AddFacultyRequest request = row.request;
+                    ps.setString(1, request.getEmail());
+                    ps.setString(2, row.passwordHash);
+                    ps.setString(3, request.getPhoneNumber());
+                    ps.setString(4, Role.STAFF.name());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+
+                Map<String, Long> ids = new HashMap<>();
+                namedParameterJdbcTemplate.query("SELECT id, email FROM users WHERE email IN (:emails)",
+                        Map.of("emails", rows.stream().map(r -> r.request.getEmail()).toList()),
+                        rs -> {
+                            ids.put(rs.getString("email"), rs.getLong("id"));
+                        });
+
+                jdbcTemplate.batchUpdate(INSERT_PROFILE_SQL, rows, rows.size(), (ps, row) -> {
+                    AddFacultyRequest request = row.request;
+                    ps.setLong(1, ids.get(request.getEmail()));
+                    ps.setString(2, request.getName());
+                    ps.setString(3, request.getDepartment());
+                    ps.setString(4, request.getRole());
+                    ps.setString(5, request.getBio());
+                    ps.setString(6, request.getQualifications());
+                    ps.setString(7, request.getExperience());
+                    ps.setString(8, request.getResearch());
+                    ps.setString(9, request.getDateOfJoining());
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+                return ids;
+            });
+
+            for (PendingRow row : rows) {
+                row.result = new RowResult(row.rowNumber, row.request.getEmail(), FacultyImportResult.CREATED, null);
+                row.result.setUserId(userIds.get(row.request.getEmail()));
+            }
+            emailService.sendRegistrationEmails(rows.stream().map(r -> r.request).toList());
+        } catch (Exception e) {
+            // The chunk is one transaction, so a failure (e.g. a concurrent insert of the same email) fails every row in it
+            logger.error("Failed to insert import chunk of {} rows starting at row {}", rows.size(), rows.get(0).rowNumber, e);
+            for (PendingRow row : rows) {
+                row.result = new RowResult(row.rowNumber, row.request.getEmail(), FacultyImportResult.FAILED,
+                        "Database insert failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private String validate(AddFacultyRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (request.getEmail() == null || request.getEmail().isBlank()) {
+            return "Email is required";
+        }
+        if (!EMAIL_PATTERN.matcher(request.getEmail()).matches()) {
+            return "Email should be valid";
+        }
+        if (request.getPassword() != null && !request.getPassword().isBlank() && request.getPassword().length() < 6) {
+            return "Password must be at least 6 characters";
+        }
+        return null;
+    }
+
+    private Map<String, Integer> mapHeader(List<String> cells) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            if (cells.get(i) != null) {
+                // Accept "dateOfJoining", "date_of_joining" and "Date of Joining" alike
+                columns.put(cells.get(i).replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT), i);
+            }
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("email")) {
+            throw new RuntimeException("Import file header must contain 'name' and 'email' columns");
+        }
+        return columns;
+    }
+
+    private AddFacultyRequest toRequest(List<String> cells, Map<String, Integer> columns) {
+        AddFacultyRequest request = new AddFacultyRequest();
+        request.setName(cell(cells, columns, "name"));
+        request.setEmail(cell(cells, columns, "email"));
+        request.setPassword(cell(cells, columns, "password"));
+        request.setPhoneNumber(cell(cells, columns, "phonenumber"));
+        String department = cell(cells, columns, "department");
+        if (department != null) {
+            request.setDepartment(department);
+        }
+        String role = cell(cells, columns, "role");
+        if (role != null) {
+            request.setRole(role);
+        }
+        request.setBio(cell(cells, columns, "bio"));
+        request.setQualifications(cell(cells, columns, "qualifications"));
+        request.setExperience(cell(cells, columns, "experience"));
+        request.setResearch(cell(cells, columns, "research"));
+        request.setDateOfJoining(cell(cells, columns, "dateofjoining"));
+        return request;
+    }
+
+    private String cell(List<String> cells, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= cells.size() || cells.get(index) == null) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String generatePassword() {
+        StringBuilder password = new StringBuilder(12);
+        for (int i = 0; i < 12; i++) {
+            password.append(PASSWORD_CHARS.charAt(random.nextInt(PASSWORD_CHARS.length())));
+        }
+        return password.toString();
+    }
+
+    // RFC 4180 CSV: quoted fields may contain commas, doubled quotes and line breaks
+    private void readCsv(InputStream in, ObjIntConsumer<List<String>> rowConsumer) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> row = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean first = true;
+        // Every record is delivered, so counting them gives the row number
+        int rowNumber = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (first) {
+                first = false;
+                if (c == '\uFEFF') {
+                    continue;
+                }
+            }
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                row.add(field.toString());
+                field.setLength(0);
+                rowConsumer.accept(row, ++rowNumber);
+                row = new ArrayList<>();
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (field.length() > 0 || !row.isEmpty()) {
+            row.add(field.toString());
+            rowConsumer.accept(row, ++rowNumber);
+        }
+    }
+
+    // SAX-based read of the first sheet, so large workbooks are never loaded as a DOM
+    private void readXlsx(MultipartFile file, ObjIntConsumer<List<String>> rowConsumer) throws IOException {
+        Path tempFile = Files.createTempFile("faculty-import-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                XSSFReader xssfReader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+                XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    return;
+                }
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            xssfReader.getStylesTable(), null, strings, new RowCollector(rowConsumer), new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Invalid XLSX file: " + e.getMessage(), e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // Empty rows get no callbacks at all, so rows are numbered from POI's 0-based index rather than counted
+    private static class RowCollector implements SheetContentsHandler {
+        private final ObjIntConsumer<List<String>> rowConsumer;
+        private List<String> row;
+
+        RowCollector(ObjIntConsumer<List<String>> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            row = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowConsumer.accept(row, rowNum + 1);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Empty cells are not reported, so pad up to this cell's column
+            int column = new CellReference(cellReference).getCol();
+            while (row.size() < column) {
+                row.add(null);
+            }
+            row.add(formattedValue);
+        }
+    }
+
+    private static class PendingRow {
+        private final int rowNumber;
+        private final AddFacultyRequest request;
+        private volatile String passwordHash;
+        private RowResult result;
+
+        PendingRow(int rowNumber, AddFacultyRequest request) {
+            this.rowNumber = rowNumber;
+            this.request = request;
+        }
+    }
+}
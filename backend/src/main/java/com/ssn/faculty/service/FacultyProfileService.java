@@ -1,21 +1,35 @@
 package com.ssn.faculty.service;
 
+import com.ssn.faculty.config.ReadFromReplica;
 import com.ssn.faculty.dto.FacultyProfileDto;
+import com.ssn.faculty.dto.ProfileDocumentDto;
+import com.ssn.faculty.entity.DocumentSlot;
 import com.ssn.faculty.entity.FacultyProfile;
+import com.ssn.faculty.entity.ProfileDocument;
 import com.ssn.faculty.entity.Role;
 import com.ssn.faculty.entity.User;
 import com.ssn.faculty.repository.FacultyProfileRepository;
+import com.ssn.faculty.repository.ProfileDocumentRepository;
 import com.ssn.faculty.repository.UserRepository;
+import com.ssn.faculty.service.FileStorageService.StoredFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,112 +44,147 @@ public class FacultyProfileService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ProfileDocumentRepository documentRepository;
+    
     @Autowired
     private FileStorageService fileStorageService;
     
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @ReadFromReplica
+    @Transactional(readOnly = true)
     public List<FacultyProfileDto> getAllProfiles() {
         return profileRepository.findAll().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public Optional<FacultyProfileDto> getProfileById(Long id) {
         return profileRepository.findById(id)
                 .map(this::convertToDto);
     }
     
+    /**
+     * Document metadata for a profile in slot order, read from profile_documents alone.
+     * Empty if the profile does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<ProfileDocumentDto>> getDocuments(Long profileId) {
+        if (!profileRepository.existsById(profileId)) {
+            return Optional.empty();
+        }
+        return Optional.of(documentRepository.findByProfileId(profileId).stream()
+                .sorted(Comparator.comparing(ProfileDocument::getSlot))
+                .map(this::convertToDto)
+                .collect(Collectors.toList()));
+    }
+    
+    @Transactional(readOnly = true)
     public Optional<FacultyProfileDto> getProfileByUserId(Long userId) {
         return profileRepository.findByUserId(userId)
                 .map(this::convertToDto);
     }
     
+    /**
+     * Uploaded files are staged before the transaction starts, so the transaction itself only
+     * records their paths; the same goes for updateProfile and uploadDocument.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FacultyProfileDto createProfile(FacultyProfileDto profileDto, MultipartFile[] files) {
-        User user = userRepository.findById(profileDto.getUserId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        FacultyProfile profile = new FacultyProfile(user, profileDto.getName());
-        profile.setDepartment(profileDto.getDepartment());
-        profile.setRole(profileDto.getRole());
-        profile.setBio(profileDto.getBio());
-        profile.setQualifications(profileDto.getQualifications());
-        profile.setDateOfJoining(profileDto.getDateOfJoining());
-        profile.setExperience(profileDto.getExperience());
-        profile.setResearch(profileDto.getResearch());
-        
-        // Handle file uploads
-        if (files != null) {
-            handleFileUploads(profile, files);
-        }
+        List<StagedUpload> uploads = stageUploads(files);
         
-        FacultyProfile savedProfile = profileRepository.save(profile);
-        logger.info("Profile created successfully: {}", savedProfile.getName());
-        
-        return convertToDto(savedProfile);
+        return inUploadTransaction(uploads, () -> {
+            User user = userRepository.findById(profileDto.getUserId())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            
+            FacultyProfile profile = new FacultyProfile(user, profileDto.getName());
+            profile.setDepartment(profileDto.getDepartment());
+            profile.setRole(profileDto.getRole());
+            profile.setBio(profileDto.getBio());
+            profile.setQualifications(profileDto.getQualifications());
+            profile.setDateOfJoining(profileDto.getDateOfJoining());
+            profile.setExperience(profileDto.getExperience());
+            profile.setResearch(profileDto.getResearch());
+            
+            // Attach the staged files
+            applyUploads(profile, uploads);
+            
+            FacultyProfile savedProfile = profileRepository.save(profile);
+            logger.info("Profile created successfully: {}", savedProfile.getName());
+            
+            return convertToDto(savedProfile);
+        });
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FacultyProfileDto updateProfile(Long id, FacultyProfileDto profileDto, MultipartFile[] files) {
-        FacultyProfile profile = profileRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Profile not found"));
-        
-        // Check if profile is locked
-        if (profile.getIsLocked() && profile.getLockExpiry() != null && 
-            LocalDateTime.now().isBefore(profile.getLockExpiry())) {
-            throw new RuntimeException("Profile is locked. Please request edit access from admin.");
-        }
+        List<StagedUpload> uploads = stageUploads(files);
         
-        try {
-            // Update basic information
-            if (profileDto.getName() != null) {
-                profile.setName(profileDto.getName());
-            }
-            if (profileDto.getBio() != null) {
-                profile.setBio(profileDto.getBio());
-            }
-            if (profileDto.getQualifications() != null) {
-                profile.setQualifications(profileDto.getQualifications());
-            }
-            if (profileDto.getExperience() != null) {
-                profile.setExperience(profileDto.getExperience());
-            }
-            if (profileDto.getResearch() != null) {
-                profile.setResearch(profileDto.getResearch());
+        return inUploadTransaction(uploads, () -> {
+            FacultyProfile profile = profileRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Profile not found"));
+            
+            // Check if profile is locked
+            if (profile.getIsLocked() && profile.getLockExpiry() != null && 
+                LocalDateTime.now().isBefore(profile.getLockExpiry())) {
+                throw new RuntimeException("Profile is locked. Please request edit access from admin.");
             }
             
-            // Update user information if provided
-            if (profileDto.getEmail() != null || profileDto.getPhoneNumber() != null) {
-                User user = profile.getUser();
-                if (profileDto.getEmail() != null && !profileDto.getEmail().trim().isEmpty()) {
-                    if (userRepository.existsByEmail(profileDto.getEmail()) && 
-                        !user.getEmail().equals(profileDto.getEmail())) {
-                        throw new RuntimeException("Email already exists for another user");
-                    }
-                    user.setEmail(profileDto.getEmail());
+            try {
+                // Update basic information
+                if (profileDto.getName() != null) {
+                    profile.setName(profileDto.getName());
                 }
-                if (profileDto.getPhoneNumber() != null) {
-                    user.setPhoneNumber(profileDto.getPhoneNumber());
+                if (profileDto.getBio() != null) {
+                    profile.setBio(profileDto.getBio());
+                }
+                if (profileDto.getQualifications() != null) {
+                    profile.setQualifications(profileDto.getQualifications());
+                }
+                if (profileDto.getExperience() != null) {
+                    profile.setExperience(profileDto.getExperience());
+                }
+                if (profileDto.getResearch() != null) {
+                    profile.setResearch(profileDto.getResearch());
                 }
-                userRepository.save(user);
-                logger.info("User information updated for profile: {}", profile.getName());
-            }
             
-            // Handle file uploads
-            if (files != null && files.length > 0) {
-                handleFileUploads(profile, files);
-            }
+                // Update user information if provided
+                if (profileDto.getEmail() != null || profileDto.getPhoneNumber() != null) {
+                    User user = profile.getUser();
+                    if (profileDto.getEmail() != null && !profileDto.getEmail().trim().isEmpty()) {
+                        if (userRepository.existsByEmail(profileDto.getEmail()) && 
+                            !user.getEmail().equals(profileDto.getEmail())) {
+                            throw new RuntimeException("Email already exists for another user");
+                        }
+                        user.setEmail(profileDto.getEmail());
+                    }
+                    if (profileDto.getPhoneNumber() != null) {
+                        user.setPhoneNumber(profileDto.getPhoneNumber());
+                    }
+                    userRepository.save(user);
+                    logger.info("User information updated for profile: {}", profile.getName());
+                }
             
-            // Save the profile
-            FacultyProfile savedProfile = profileRepository.save(profile);
-            logger.info("Profile updated successfully: {} (ID: {})", savedProfile.getName(), savedProfile.getId());
+                // Attach the staged files
+                applyUploads(profile, uploads);
             
-            return convertToDto(savedProfile);
+                // Save the profile
+                FacultyProfile savedProfile = profileRepository.save(profile);
+                logger.info("Profile updated successfully: {} (ID: {})", savedProfile.getName(), savedProfile.getId());
             
-        } catch (Exception e) {
-            logger.error("Failed to update profile: {}", profile.getName(), e);
-            throw new RuntimeException("Failed to update profile: " + e.getMessage(), e);
-        }
+                return convertToDto(savedProfile);
+            
+            } catch (Exception e) {
+                logger.error("Failed to update profile: {}", profile.getName(), e);
+                throw new RuntimeException("Failed to update profile: " + e.getMessage(), e);
+            }
+        });
     }
     
     public void deleteProfile(Long id) {
@@ -222,93 +271,12 @@ public class FacultyProfileService {
             throw new RuntimeException("Profile is locked. Please request edit access from admin.");
         }
         
-        String filePath = null;
-        
-        // Map file type to the appropriate field and get the file path
-        switch (fileType.toLowerCase()) {
-            case "profile_pic":
-                filePath = profile.getProfilePic();
-                profile.setProfilePic(null);
-                break;
-            case "tenth_cert":
-                filePath = profile.getTenthCert();
-                profile.setTenthCert(null);
-                break;
-            case "twelfth_cert":
-                filePath = profile.getTwelfthCert();
-                profile.setTwelfthCert(null);
-                break;
-            case "appointment_order":
-                filePath = profile.getAppointmentOrder();
-                profile.setAppointmentOrder(null);
-                break;
-            case "joining_report":
-                filePath = profile.getJoiningReport();
-                profile.setJoiningReport(null);
-                break;
-            case "ug_degree":
-                filePath = profile.getUgDegree();
-                profile.setUgDegree(null);
-                break;
-            case "pg_ms_consolidated":
-                filePath = profile.getPgMsConsolidated();
-                profile.setPgMsConsolidated(null);
-                break;
-            case "phd_degree":
-                filePath = profile.getPhdDegree();
-                profile.setPhdDegree(null);
-                break;
-            case "journals_list":
-                filePath = profile.getJournalsList();
-                profile.setJournalsList(null);
-                break;
-            case "conferences_list":
-                filePath = profile.getConferencesList();
-                profile.setConferencesList(null);
-                break;
-            case "au_supervisor_letter":
-                filePath = profile.getAuSupervisorLetter();
-                profile.setAuSupervisorLetter(null);
-                break;
-            case "fdp_workshops_webinars":
-                filePath = profile.getFdpWorkshopsWebinars();
-                profile.setFdpWorkshopsWebinars(null);
-                break;
-            case "nptel_coursera":
-                filePath = profile.getNptelCoursera();
-                profile.setNptelCoursera(null);
-                break;
-            case "invited_talks":
-                filePath = profile.getInvitedTalks();
-                profile.setInvitedTalks(null);
-                break;
-            case "projects_sanction":
-                filePath = profile.getProjectsSanction();
-                profile.setProjectsSanction(null);
-                break;
-            case "consultancy":
-                filePath = profile.getConsultancy();
-                profile.setConsultancy(null);
-                break;
-            case "patent":
-                filePath = profile.getPatent();
-                profile.setPatent(null);
-                break;
-            case "community_cert":
-                filePath = profile.getCommunityCert();
-                profile.setCommunityCert(null);
-                break;
-            case "aadhar":
-                filePath = profile.getAadhar();
-                profile.setAadhar(null);
-                break;
-            case "pan":
-                filePath = profile.getPan();
-                profile.setPan(null);
-                break;
-            default:
-                throw new RuntimeException("Invalid file type: " + fileType);
+        DocumentSlot slot = DocumentSlot.fromKey(fileType);
+        if (slot == null) {
+            throw new RuntimeException("Invalid file type: " + fileType);
         }
+        ProfileDocument removed = profile.removeDocument(slot);
+        String filePath = removed == null ? null : removed.getStorageKey();
         
         // Delete the file from filesystem if it exists
         if (filePath != null && !filePath.trim().isEmpty()) {
@@ -321,132 +289,140 @@ public class FacultyProfileService {
         logger.info("File removed from profile: {} (type: {})", profile.getName(), fileType);
     }
     
-    private void handleFileUploads(FacultyProfile profile, MultipartFile[] files) {
+    /**
+     * Store one uploaded file in the given document slot, replacing whatever was there.
+     * The replaced file is only deleted once the new path has been committed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FacultyProfileDto uploadDocument(Long profileId, DocumentSlot slot, MultipartFile file) {
+        List<StagedUpload> uploads = List.of(new StagedUpload(slot, fileStorageService.stageFile(file)));
+        
+        return inUploadTransaction(uploads, () -> {
+            FacultyProfile profile = profileRepository.findById(profileId)
+                    .orElseThrow(() -> new RuntimeException("Profile not found"));
+            
+            // Check if profile is locked
+            if (profile.getIsLocked() && profile.getLockExpiry() != null && 
+                LocalDateTime.now().isBefore(profile.getLockExpiry())) {
+                throw new RuntimeException("Profile is locked. Please request edit access from admin.");
+            }
+            
+            applyUploads(profile, uploads);
+            FacultyProfile savedProfile = profileRepository.save(profile);
+            
+            logger.info("Document {} uploaded for profile: {}", slot.getKey(), profile.getName());
+            return convertToDto(savedProfile);
+        });
+    }
+    
+    /**
+     * Work out the slot for each uploaded file and stage them all concurrently. Files that match
+     * no slot are skipped rather than stored, since nothing would ever reference them.
+     */
+    private List<StagedUpload> stageUploads(MultipartFile[] files) {
         if (files == null || files.length == 0) {
-            logger.info("No files to upload for profile: {}", profile.getName());
+            return List.of();
+        }
+        
+        List<DocumentSlot> slots = new ArrayList<>();
+        List<MultipartFile> mapped = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                continue;
+            }
+            String originalFilename = file.getOriginalFilename();
+            if (originalFilename == null) {
+                logger.warn("Skipping file with null filename");
+                continue;
+            }
+            DocumentSlot slot = DocumentSlot.fromUploadFilename(originalFilename);
+            if (slot == null) {
+                logger.warn("File could not be mapped to any profile field: {}", originalFilename);
+                continue;
+            }
+            slots.add(slot);
+            mapped.add(file);
+        }
+        if (mapped.isEmpty()) {
+            return List.of();
+        }
+        
+        logger.debug("Staging {} files", mapped.size());
+        List<StoredFile> staged = fileStorageService.stageFiles(mapped);
+        List<StagedUpload> uploads = new ArrayList<>();
+        for (int i = 0; i < staged.size(); i++) {
+            uploads.add(new StagedUpload(slots.get(i), staged.get(i)));
+        }
+        return uploads;
+    }
+    
+    /**
+     * Point the profile's slots at the staged files. The files they replace are deleted, and
+     * thumbnails queued, only after the transaction commits.
+     */
+    private void applyUploads(FacultyProfile profile, List<StagedUpload> uploads) {
+        if (uploads.isEmpty()) {
             return;
         }
         
-        logger.info("Processing {} files for profile: {}", files.length, profile.getName());
+        List<String> replaced = new ArrayList<>();
+        for (StagedUpload upload : uploads) {
+            String previousPath = profile.putDocument(newDocument(upload.slot(), upload.file()));
+            if (previousPath != null) {
+                replaced.add(previousPath);
+            }
+            logger.debug("File mapped to profile field: {} ({})", upload.file().path(), upload.slot().getKey());
+        }
         
-        // Map files to their respective fields based on parameter names
-        for (MultipartFile file : files) {
-            if (file != null && !file.isEmpty()) {
-                String originalFilename = file.getOriginalFilename();
-                if (originalFilename == null) {
-                    logger.warn("Skipping file with null filename");
-                    continue;
-                }
-                
-                try {
-                    String filePath = fileStorageService.storeFile(file);
-                    logger.info("File stored successfully: {} -> {}", originalFilename, filePath);
-                    
-                    // Map file to appropriate field based on filename or parameter name
-                    String lowerFilename = originalFilename.toLowerCase();
-                    boolean mapped = false;
-                    
-                    if (lowerFilename.contains("profile") || lowerFilename.contains("pic") || lowerFilename.contains("photo")) {
-                        profile.setProfilePic(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("tenth") || lowerFilename.contains("10th")) {
-                        profile.setTenthCert(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("twelfth") || lowerFilename.contains("12th")) {
-                        profile.setTwelfthCert(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("appointment")) {
-                        profile.setAppointmentOrder(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("joining")) {
-                        profile.setJoiningReport(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("ug") || lowerFilename.contains("undergraduate")) {
-                        profile.setUgDegree(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("pg") || lowerFilename.contains("ms") || lowerFilename.contains("postgraduate")) {
-                        profile.setPgMsConsolidated(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("phd") || lowerFilename.contains("doctorate")) {
-                        profile.setPhdDegree(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("journal")) {
-                        profile.setJournalsList(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("conference")) {
-                        profile.setConferencesList(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("supervisor")) {
-                        profile.setAuSupervisorLetter(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("fdp") || lowerFilename.contains("workshop") || lowerFilename.contains("webinar")) {
-                        profile.setFdpWorkshopsWebinars(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("nptel") || lowerFilename.contains("coursera")) {
-                        profile.setNptelCoursera(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("invited") || lowerFilename.contains("talk")) {
-                        profile.setInvitedTalks(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("project") || lowerFilename.contains("sanction")) {
-                        profile.setProjectsSanction(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("consultancy")) {
-                        profile.setConsultancy(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("patent")) {
-                        profile.setPatent(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("community")) {
-                        profile.setCommunityCert(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("aadhar")) {
-                        profile.setAadhar(filePath);
-                        mapped = true;
-                    } else if (lowerFilename.contains("pan")) {
-                        profile.setPan(filePath);
-                        mapped = true;
-                    }
-                    
-                    if (mapped) {
-                        logger.info("File mapped to profile field: {} -> {}", originalFilename, filePath);
-                    } else {
-                        logger.warn("File could not be mapped to any profile field: {}", originalFilename);
-                    }
-                    
-                } catch (Exception e) {
-                    logger.error("Failed to store file: {}", originalFilename, e);
-                    throw new RuntimeException("Failed to store file " + originalFilename + ": " + e.getMessage(), e);
-                }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replaced.forEach(fileStorageService::deleteFile);
+                uploads.stream()
+                        .filter(upload -> upload.slot() == DocumentSlot.PROFILE_PIC)
+                        .forEach(upload -> fileStorageService.scheduleThumbnails(upload.file().path()));
             }
+        });
+    }
+    
+    /**
+     * Run work in a short transaction that moves the staged files into place just before it
+     * commits. If anything fails, including the commit itself, the staged files are removed.
+     */
+    private <T> T inUploadTransaction(List<StagedUpload> uploads, Supplier<T> work) {
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                if (!uploads.isEmpty()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            uploads.forEach(upload -> fileStorageService.promoteStaged(upload.file()));
+                        }
+                    });
+                }
+                return work.get();
+            });
+        } catch (RuntimeException e) {
+            uploads.forEach(upload -> fileStorageService.discard(upload.file()));
+            throw e;
         }
     }
     
     private void deleteProfileFiles(FacultyProfile profile) {
-        // Delete all associated files
-        fileStorageService.deleteFile(profile.getProfilePic());
-        fileStorageService.deleteFile(profile.getTenthCert());
-        fileStorageService.deleteFile(profile.getTwelfthCert());
-        fileStorageService.deleteFile(profile.getAppointmentOrder());
-        fileStorageService.deleteFile(profile.getJoiningReport());
-        fileStorageService.deleteFile(profile.getUgDegree());
-        fileStorageService.deleteFile(profile.getPgMsConsolidated());
-        fileStorageService.deleteFile(profile.getPhdDegree());
-        fileStorageService.deleteFile(profile.getJournalsList());
-        fileStorageService.deleteFile(profile.getConferencesList());
-        fileStorageService.deleteFile(profile.getAuSupervisorLetter());
-        fileStorageService.deleteFile(profile.getFdpWorkshopsWebinars());
-        fileStorageService.deleteFile(profile.getNptelCoursera());
-        fileStorageService.deleteFile(profile.getInvitedTalks());
-        fileStorageService.deleteFile(profile.getProjectsSanction());
-        fileStorageService.deleteFile(profile.getConsultancy());
-        fileStorageService.deleteFile(profile.getPatent());
-        fileStorageService.deleteFile(profile.getCommunityCert());
-        fileStorageService.deleteFile(profile.getAadhar());
-        fileStorageService.deleteFile(profile.getPan());
+        for (ProfileDocument document : profile.getDocuments().values()) {
+            fileStorageService.deleteFile(document.getStorageKey());
+        }
+    }
+    
+    private ProfileDocument newDocument(DocumentSlot slot, StoredFile stored) {
+        ProfileDocument document = new ProfileDocument(slot, stored.path());
+        document.setSizeBytes(stored.size());
+        document.setSha256(stored.sha256());
+        document.setContentType(stored.contentType());
+        return document;
     }
     
-    private FacultyProfileDto convertToDto(FacultyProfile profile) {
+    FacultyProfileDto convertToDto(FacultyProfile profile) {
         FacultyProfileDto dto = new FacultyProfileDto();
         dto.setId(profile.getId());
         dto.setUserId(profile.getUser().getId());
@@ -454,32 +430,15 @@ public class FacultyProfileService {
         dto.setDepartment(profile.getDepartment());
         dto.setRole(profile.getRole());
         dto.setBio(profile.getBio());
-        dto.setProfilePic(profile.getProfilePic());
         dto.setQualifications(profile.getQualifications());
         dto.setDateOfJoining(profile.getDateOfJoining());
         dto.setExperience(profile.getExperience());
         dto.setResearch(profile.getResearch());
         
         // Document fields
-        dto.setTenthCert(profile.getTenthCert());
-        dto.setTwelfthCert(profile.getTwelfthCert());
-        dto.setAppointmentOrder(profile.getAppointmentOrder());
-        dto.setJoiningReport(profile.getJoiningReport());
-        dto.setUgDegree(profile.getUgDegree());
-        dto.setPgMsConsolidated(profile.getPgMsConsolidated());
-        dto.setPhdDegree(profile.getPhdDegree());
-        dto.setJournalsList(profile.getJournalsList());
-        dto.setConferencesList(profile.getConferencesList());
-        dto.setAuSupervisorLetter(profile.getAuSupervisorLetter());
-        dto.setFdpWorkshopsWebinars(profile.getFdpWorkshopsWebinars());
-        dto.setNptelCoursera(profile.getNptelCoursera());
-        dto.setInvitedTalks(profile.getInvitedTalks());
-        dto.setProjectsSanction(profile.getProjectsSanction());
-        dto.setConsultancy(profile.getConsultancy());
-        dto.setPatent(profile.getPatent());
-        dto.setCommunityCert(profile.getCommunityCert());
-        dto.setAadhar(profile.getAadhar());
-        dto.setPan(profile.getPan());
+        for (ProfileDocument document : profile.getDocuments().values()) {
+            document.getSlot().set(dto, document.getStorageKey());
+        }
         
         // Lock and edit request fields
         dto.setIsLocked(profile.getIsLocked());
@@ -497,4 +456,18 @@ public class FacultyProfileService {
         
         return dto;
     }
+    
+    private ProfileDocumentDto convertToDto(ProfileDocument document) {
+        ProfileDocumentDto dto = new ProfileDocumentDto();
+        dto.setSlot(document.getSlot().getKey());
+        dto.setLabel(document.getSlot().getLabel());
+        dto.setStorageKey(document.getStorageKey());
+        dto.setSizeBytes(document.getSizeBytes());
+        dto.setSha256(document.getSha256());
+        dto.setContentType(document.getContentType());
+        dto.setUploadedAt(document.getUploadedAt());
+        return dto;
+    }
+    
+    private record StagedUpload(DocumentSlot slot, StoredFile file) {}
 }
@@ -1,23 +1,37 @@
 package com.ssn.faculty.service;
 
+import org.apache.commons.io.output.TeeOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 public class FileStorageService {
@@ -30,9 +44,89 @@ public class FileStorageService {
     @Value("${file.max-file-size}")
     private String maxFileSize;
     
+    @Value("${file.compression.enabled:false}")
+    private boolean compressionEnabled;
+    
+    @Value("${file.compression.max-ratio:0.8}")
+    private double maxCompressionRatio;
+    
+    @Autowired
+    private ThumbnailService thumbnailService;
+    
+    @Autowired
+    @Qualifier("uploadExecutor")
+    private Executor uploadExecutor;
+    
     private final List<String> allowedExtensions = Arrays.asList("pdf", "jpg", "jpeg", "png", "doc", "docx");
     
+    private static final String STAGING_DIR = ".staging";
+    
+    // Suffix of files kept gzip-compressed on disk; the storage key never includes it
+    private static final String COMPRESSED_SUFFIX = ".gz";
+    
+    // Formats that are not compressed internally. DOCX is a ZIP and JPEG/PNG are compressed already.
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of("pdf", "doc");
+    
+    private static final Set<String> IMAGE_TYPES = Set.of("image/jpeg", "image/png");
+    
+    // What the content of a file with each extension may actually be. Phones often save PNGs as .jpg
+    // and vice versa, so images only have to be some image.
+    private static final Map<String, Set<String>> ACCEPTED_TYPES = Map.of(
+            "pdf", Set.of("application/pdf"),
+            "jpg", IMAGE_TYPES,
+            "jpeg", IMAGE_TYPES,
+            "png", IMAGE_TYPES,
+            "doc", Set.of("application/msword"),
+            "docx", Set.of("application/vnd.openxmlformats-officedocument.wordprocessingml.document"));
+    
     public String storeFile(MultipartFile file) {
+        return storeFileWithMetadata(file).path();
+    }
+    
+    /**
+     * Store an uploaded file and return its path along with the size, SHA-256 and content type,
+     * which are worked out while the file is copied rather than by reading it back. The content
+     * type comes from the file's signature, and a file whose content does not match its
+     * extension is rejected.
+     */
+    public StoredFile storeFileWithMetadata(MultipartFile file) {
+        StoredFile stored = stageFile(file);
+        promoteStaged(stored);
+        return stored;
+    }
+    
+    /**
+     * Stage several uploads concurrently on the upload executor. Either every file is staged or,
+     * if any of them fails, the ones that did succeed are discarded and the first error is thrown.
+     */
+    public List<StoredFile> stageFiles(List<MultipartFile> files) {
+        List<CompletableFuture<StoredFile>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> stageFile(file), uploadExecutor))
+                .toList();
+        
+        List<StoredFile> staged = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<StoredFile> future : futures) {
+            try {
+                staged.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            staged.forEach(this::discard);
+            throw failure;
+        }
+        return staged;
+    }
+    
+    /**
+     * Validate an upload and copy it into the staging area under {upload-dir}/.staging. The returned
+     * path is where the file will live once promoteStaged moves it into the upload directory.
+     */
+    public StoredFile stageFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new RuntimeException("Failed to store empty file");
         }
@@ -58,7 +152,7 @@ public class FileStorageService {
         try {
             // Create upload directory if it doesn't exist
             Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-            logger.info("Upload directory: {}", uploadPath);
+            logger.debug("Upload directory: {}", uploadPath);
             
             if (!Files.exists(uploadPath)) {
                 logger.info("Creating upload directory: {}", uploadPath);
@@ -72,13 +166,40 @@ public class FileStorageService {
             
             // Generate unique filename
             String uniqueFilename = UUID.randomUUID().toString() + "-" + originalFilename;
-            Path targetLocation = uploadPath.resolve(uniqueFilename);
+            Path stagingPath = uploadPath.resolve(STAGING_DIR);
+            Files.createDirectories(stagingPath);
+            Path targetLocation = stagingPath.resolve(uniqueFilename);
             
-            // Copy file to target location
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            Path compressedLocation = stagingPath.resolve(uniqueFilename + COMPRESSED_SUFFIX);
+            boolean compress = compressionEnabled && COMPRESSIBLE_EXTENSIONS.contains(extension.toLowerCase());
             
-            logger.info("File stored successfully: {} -> {}", originalFilename, uniqueFilename);
-            return "/uploads/" + uniqueFilename;
+            // Copy file to target location, hashing and checking its signature on the way through
+            MessageDigest digest = sha256();
+            ContentSniffingInputStream sniffer = new ContentSniffingInputStream(file.getInputStream(),
+                    ACCEPTED_TYPES.get(extension.toLowerCase()), "." + extension);
+            long size;
+            try (InputStream in = new DigestInputStream(sniffer, digest)) {
+                if (compress) {
+                    // Write the plain and compressed copies side by side and keep whichever is worth it
+                    try (OutputStream plain = Files.newOutputStream(targetLocation);
+                         GZIPOutputStream gzip = new GZIPOutputStream(Files.newOutputStream(compressedLocation), 64 * 1024)) {
+                        size = in.transferTo(new TeeOutputStream(plain, gzip));
+                    }
+                } else {
+                    size = Files.copy(in, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(targetLocation);
+                Files.deleteIfExists(compressedLocation);
+                throw e;
+            }
+            if (compress) {
+                keepSmallerCopy(targetLocation, compressedLocation, size);
+            }
+            
+            logger.debug("File staged successfully: {} -> {}", originalFilename, uniqueFilename);
+            return new StoredFile("/uploads/" + uniqueFilename, size, HexFormat.of().formatHex(digest.digest()),
+                    sniffer.getDetectedType());
             
         } catch (IOException ex) {
             logger.error("Failed to store file: {}", originalFilename, ex);
@@ -86,18 +207,38 @@ public class FileStorageService {
         }
     }
     
-    public Resource loadFileAsResource(String filename) {
+    /**
+     * Move a staged file into the upload directory. A rename within the same directory tree,
+     * so this is cheap enough to run just before a transaction commits.
+     */
+    public void promoteStaged(StoredFile stored) {
+        String filename = stored.path().substring("/uploads/".length());
+        Path uploadPath = getUploadRoot();
         try {
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new RuntimeException("File not found: " + filename);
+            Path staged = locate(uploadPath.resolve(STAGING_DIR), filename);
+            if (staged == null) {
+                throw new IOException("staged file is missing");
             }
-        } catch (MalformedURLException ex) {
-            throw new RuntimeException("File not found: " + filename, ex);
+            Files.move(staged, uploadPath.resolve(staged.getFileName().toString()), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to store file " + filename + ": " + ex.getMessage(), ex);
+        }
+    }
+    
+    /**
+     * Remove a staged upload whether or not it has been promoted yet
+     */
+    public void discard(StoredFile stored) {
+        String filename = stored.path().substring("/uploads/".length());
+        try {
+            Path stagingPath = getUploadRoot().resolve(STAGING_DIR);
+            Files.deleteIfExists(stagingPath.resolve(filename));
+            Files.deleteIfExists(stagingPath.resolve(filename + COMPRESSED_SUFFIX));
+        } catch (IOException ex) {
+            logger.warn("Failed to delete staged file: {}", filename, ex);
+        }
+        if (fileExists(stored.path())) {
+            deleteFile(stored.path());
         }
     }
     
@@ -125,9 +266,15 @@ public class FileStorageService {
                 return;
             }
             
+            if (!Files.exists(file)) {
+                file = file.resolveSibling(file.getFileName() + COMPRESSED_SUFFIX);
+            }
             if (Files.exists(file)) {
                 Files.delete(file);
-                logger.info("File deleted successfully: {}", filename);
+                logger.debug("File deleted successfully: {}", filename);
+                if (thumbnailService.isImage(filename)) {
+                    thumbnailService.deleteThumbnails(filename);
+                }
             } else {
                 logger.warn("File not found for deletion: {}", filename);
             }
@@ -158,20 +305,135 @@ public class FileStorageService {
                 return false;
             }
             
-            return Files.exists(file);
+            return Files.exists(file) || Files.exists(file.resolveSibling(file.getFileName() + COMPRESSED_SUFFIX));
         } catch (Exception ex) {
             logger.error("Error checking file existence: {}", filePath, ex);
             return false;
         }
     }
     
-    private String getFileExtension(String filename) {
+    /**
+     * Queue thumbnail generation for a stored image (e.g. a new profile picture)
+     */
+    public void scheduleThumbnails(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            return;
+        }
+        String filename = filePath.startsWith("/uploads/") ? filePath.substring("/uploads/".length()) : filePath;
+        thumbnailService.generateAsync(filename);
+    }
+    
+    /**
+     * Resolve a stored file path (as saved on the profile) to its location on disk and whether it
+     * is kept compressed. Returns null if the path is empty, is not a top-level upload or the file
+     * is missing.
+     */
+    public StoredContent locateStoredFile(String filePath) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            return null;
+        }
+        
+        String filename = filePath.startsWith("/uploads/") ? filePath.substring("/uploads/".length()) : filePath;
+        // Uploads are stored flat; nested or dot-prefixed paths (.cache, .staging, .quarantine,
+        // thumbs) are internal and must not be reachable by name
+        if (filename.contains("/") || filename.contains("\\") || filename.startsWith(".")) {
+            return null;
+        }
+        Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        if (!uploadPath.resolve(filename).normalize().startsWith(uploadPath)) {
+            return null;
+        }
+        Path file = locate(uploadPath, filename);
+        return file == null ? null : new StoredContent(file, file.getFileName().toString().endsWith(COMPRESSED_SUFFIX));
+    }
+    
+    /**
+     * Open a stored file for reading its original bytes, decompressing if needed.
+     * Returns null if the file is missing.
+     */
+    public InputStream openStoredFile(String filePath) throws IOException {
+        StoredContent stored = locateStoredFile(filePath);
+        if (stored == null) {
+            return null;
+        }
+        InputStream in = Files.newInputStream(stored.path());
+        return stored.compressed() ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+    
+    /**
+     * Size, SHA-256 and content type of a file that is already stored, for records created
+     * before this metadata was captured at upload time. Returns null if the file is missing.
+     */
+    public StoredFile describeStoredFile(String filePath) throws IOException {
+        InputStream content = openStoredFile(filePath);
+        if (content == null) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        ContentSniffingInputStream sniffer = new ContentSniffingInputStream(content, null, null);
+        long size;
+        try (InputStream in = new DigestInputStream(sniffer, digest)) {
+            size = in.transferTo(OutputStream.nullOutputStream());
+        }
+        return new StoredFile(filePath, size, HexFormat.of().formatHex(digest.digest()), sniffer.getDetectedType());
+    }
+    
+    /**
+     * Content type of a stored file from its first few bytes, for files that have no recorded
+     * metadata (e.g. uploads that were never attached to a profile)
+     */
+    public String detectContentType(String filePath) throws IOException {
+        InputStream content = openStoredFile(filePath);
+        if (content == null) {
+            return ContentSniffingInputStream.OCTET_STREAM;
+        }
+        try (ContentSniffingInputStream sniffer = new ContentSniffingInputStream(content, null, null)) {
+            sniffer.readNBytes(16);
+            return sniffer.getDetectedType();
+        }
+    }
+    
+    public Path getUploadRoot() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+    
+    public String getFileExtension(String filename) {
         if (filename == null || filename.lastIndexOf(".") == -1) {
             return "";
         }
         return filename.substring(filename.lastIndexOf(".") + 1);
     }
     
+    /**
+     * Keep the compressed copy only if it saves enough space to be worth decompressing later
+     */
+    private void keepSmallerCopy(Path plain, Path compressed, long size) throws IOException {
+        long compressedSize = Files.size(compressed);
+        if (compressedSize <= size * maxCompressionRatio) {
+            Files.delete(plain);
+            logger.debug("Stored {} compressed: {} -> {} bytes", plain.getFileName(), size, compressedSize);
+        } else {
+            Files.delete(compressed);
+        }
+    }
+    
+    private Path locate(Path dir, String filename) {
+        Path plain = dir.resolve(filename);
+        if (Files.isRegularFile(plain)) {
+            return plain;
+        }
+        Path compressed = dir.resolve(filename + COMPRESSED_SUFFIX);
+        return Files.isRegularFile(compressed) ? compressed : null;
+    }
+    
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
     private long parseFileSize(String size) {
         if (size.endsWith("MB")) {
             return Long.parseLong(size.substring(0, size.length() - 2)) * 1024 * 1024;
@@ -181,4 +443,8 @@ public class FileStorageService {
             return Long.parseLong(size);
         }
     }
+    
+    public record StoredFile(String path, long size, String sha256, String contentType) {}
+    
+    public record StoredContent(Path path, boolean compressed) {}
 }
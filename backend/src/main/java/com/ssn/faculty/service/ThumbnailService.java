@@ -0,0 +1,223 @@
+package com.ssn.faculty.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Square JPEG thumbnails of uploaded images, stored under {upload-dir}/thumbs/{size}/. Stored file
+ * names are unique per upload, so a thumbnail never changes once written and can be cached forever.
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    public static final List<Integer> SIZES = List.of(64, 128, 256);
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Autowired
+    @Qualifier("storageExecutor")
+    private TaskExecutor storageExecutor;
+
+    public boolean isSupportedSize(int size) {
+        return SIZES.contains(size);
+    }
+
+    public boolean isImage(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 && IMAGE_EXTENSIONS.contains(filename.substring(dot + 1).toLowerCase());
+    }
+
+    /**
+     * Create all thumbnail sizes for a stored image in the background
+     */
+    public void generateAsync(String filename) {
+        if (!isImage(filename)) {
+            return;
+        }
+        storageExecutor.execute(() -> {
+            try {
+                generate(filename);
+            } catch (Exception e) {
+                logger.warn("Could not create thumbnails for {}: {}", filename, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Path of the thumbnail for a stored image, creating it if it does not exist yet.
+     * Returns null if the source image does not exist or is not an image.
+     */
+    public Path getThumbnail(String filename, int size) throws IOException {
+        Path source = resolveSource(filename);
+        if (source == null || !isImage(filename)) {
+            return null;
+        }
+        Path thumbnail = thumbnailPath(filename, size);
+        if (!Files.isRegularFile(thumbnail)) {
+            generate(filename);
+        }
+        return Files.isRegularFile(thumbnail) ? thumbnail : null;
+    }
+
+    public void deleteThumbnails(String filename) {
+        for (int size : SIZES) {
+            try {
+                Files.deleteIfExists(thumbnailPath(filename, size));
+            } catch (IOException e) {
+                logger.warn("Could not delete {}px thumbnail of {}: {}", size, filename, e.getMessage());
+            }
+        }
+    }
+
+    public Path thumbnailPath(String filename, int size) {
+        String base = filename.substring(0, filename.lastIndexOf('.'));
+        return root().resolve("thumbs").resolve(String.valueOf(size)).resolve(base + ".jpg");
+    }
+
+    private void generate(String filename) throws IOException {
+        Path source = resolveSource(filename);
+        if (source == null) {
+            return;
+        }
+
+        BufferedImage image = read(source, SIZES.get(SIZES.size() - 1));
+        if (image == null) {
+            throw new IOException("Unsupported image format");
+        }
+        BufferedImage square = cropToSquare(image);
+
+        // Largest first, then each smaller size is scaled down from the previous one
+        BufferedImage current = square;
+        for (int i = SIZES.size() - 1; i >= 0; i--) {
+            int size = SIZES.get(i);
+            current = scale(current, Math.min(size, square.getWidth()));
+            write(current, thumbnailPath(filename, size));
+        }
+        logger.debug("Created thumbnails for {}", filename);
+    }
+
+    /**
+     * Decode the image, letting the reader skip pixels when the source is far larger than needed
+     * so a 12MP camera photo never has to be held in memory at full resolution.
+     */
+    private BufferedImage read(Path source, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, shortSide / (targetSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage cropToSquare(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+        return image.getSubimage(x, y, side, side);
+    }
+
+    private BufferedImage scale(BufferedImage image, int size) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        // Halve repeatedly before the final step; a single bilinear pass over a big ratio looks jagged
+        do {
+            width = Math.max(size, width / 2);
+            BufferedImage next = new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                // JPEG has no alpha channel, so transparent PNGs are flattened onto white
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, width);
+                g.drawImage(current, 0, 0, width, width, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width > size);
+        return current;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path resolveSource(String filename) {
+        // Stored uploads are flat; anything with a separator is not one of ours
+        if (filename.indexOf('/') >= 0 || filename.indexOf('\\') >= 0) {
+            return null;
+        }
+        Path file = root().resolve(filename).normalize();
+        if (!file.startsWith(root()) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    private Path root() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,250 @@
+package com.ssn.faculty.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Mark-and-sweep collection of uploads that no profile document points at any more, such as files
+ * left behind by a crash between staging and commit. Files younger than the grace period are never
+ * touched, so uploads that are still being committed are safe. Each run handles a bounded number of
+ * files; whatever is left over is picked up by the next run.
+ */
+@Service
+public class UploadGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadGarbageCollector.class);
+
+    private static final String QUARANTINE_DIR = ".quarantine";
+    private static final String STAGING_DIR = ".staging";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.storage.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.storage.gc.grace-hours:24}")
+    private int graceHours;
+
+    @Value("${app.storage.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.storage.gc.max-files-per-run:10000}")
+    private int maxFilesPerRun;
+
+    @Value("${app.storage.gc.quarantine-days:7}")
+    private int quarantineDays;
+
+    private Counter reclaimedBytes;
+
+    private Counter collectedFiles;
+
+    @PostConstruct
+    public void init() {
+        reclaimedBytes = Counter.builder("storage.gc.reclaimed")
+                .description("Bytes freed by deleting unreferenced uploads")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        collectedFiles = Counter.builder("storage.gc.files")
+                .description("Unreferenced uploads removed from the upload directory")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.storage.gc.cron:0 30 3 * * *}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect();
+        } catch (Exception e) {
+            logger.error("Upload garbage collection failed", e);
+        }
+    }
+
+    /**
+     * Run one collection pass and return the number of files removed from the upload directory
+     */
+    public synchronized int collect() throws IOException {
+        Path root = fileStorageService.getUploadRoot();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(Duration.ofHours(graceHours)));
+
+        // Mark: taken before the walk, so anything committed after this point is newer than the cutoff
+        long[] referenced = loadReferencedFingerprints();
+
+        // Sweep
+        Sweep sweep = new Sweep(root, referenced, cutoff);
+        Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), 1, sweep);
+        sweep.flush();
+
+        long purged = purgeOlderThan(root.resolve(STAGING_DIR), cutoff);
+        purged += purgeOlderThan(root.resolve(QUARANTINE_DIR),
+                FileTime.from(Instant.now().minus(Duration.ofDays(quarantineDays))));
+
+        if (sweep.removed > 0 || purged > 0) {
+            logger.info("Upload GC: {} unreferenced files {} ({} bytes), {} bytes reclaimed from staging/quarantine",
+                    sweep.removed, quarantineDays > 0 ? "quarantined" : "deleted", sweep.bytes, purged);
+        }
+        return sweep.removed;
+    }
+
+    /**
+     * Every referenced file name as a 64-bit fingerprint in a sorted array, which takes a fraction of
+     * the memory of a set of strings. A collision can only keep an orphan alive, never delete a
+     * referenced file.
+     */
+    private long[] loadReferencedFingerprints() {
+        long[][] holder = {new long[1024]};
+        int[] count = {0};
+        jdbcTemplate.query("SELECT storage_key FROM profile_documents", rs -> {
+            String key = rs.getString(1);
+            if (key == null) {
+                return;
+            }
+            if (count[0] == holder[0].length) {
+                holder[0] = Arrays.copyOf(holder[0], holder[0].length * 2);
+            }
+            holder[0][count[0]++] = fingerprint(key.startsWith("/uploads/") ? key.substring("/uploads/".length()) : key);
+        });
+        long[] fingerprints = Arrays.copyOf(holder[0], count[0]);
+        Arrays.sort(fingerprints);
+        return fingerprints;
+    }
+
+    private static long fingerprint(String name) {
+        // FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private long purgeOlderThan(Path dir, FileTime cutoff) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+        long[] bytes = {0};
+        Files.walkFileTree(dir, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && attrs.lastModifiedTime().compareTo(cutoff) < 0) {
+                    try {
+                        Files.delete(file);
+                        bytes[0] += attrs.size();
+                    } catch (IOException e) {
+                        logger.warn("Could not delete {}: {}", file, e.getMessage());
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        reclaimedBytes.increment(bytes[0]);
+        return bytes[0];
+    }
+
+    private class Sweep extends SimpleFileVisitor<Path> {
+        private final Path root;
+        private final long[] referenced;
+        private final FileTime cutoff;
+        private final List<Candidate> batch = new ArrayList<>();
+        private int removed;
+        private long bytes;
+
+        Sweep(Path root, long[] referenced, FileTime cutoff) {
+            this.root = root;
+            this.referenced = referenced;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+            // Uploads are stored flat; directories (thumbs, .cache, .staging...) are not uploads
+            String name = file.getFileName().toString();
+            // Compressed uploads are referenced without their .gz suffix
+            String key = name.endsWith(".gz") ? name.substring(0, name.length() - 3) : name;
+            if (!attrs.isRegularFile() || name.startsWith(".")
+                    || attrs.lastModifiedTime().compareTo(cutoff) >= 0
+                    || Arrays.binarySearch(referenced, fingerprint(key)) >= 0) {
+                return FileVisitResult.CONTINUE;
+            }
+            batch.add(new Candidate(file, attrs.size()));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+            return removed + batch.size() >= maxFilesPerRun ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+        }
+
+        void flush() throws IOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Path quarantine = root.resolve(QUARANTINE_DIR);
+            if (quarantineDays > 0) {
+                Files.createDirectories(quarantine);
+            }
+            for (Candidate candidate : batch) {
+                String name = candidate.file().getFileName().toString();
+                try {
+                    if (quarantineDays > 0) {
+                        Path target = quarantine.resolve(name);
+                        Files.move(candidate.file(), target, StandardCopyOption.REPLACE_EXISTING);
+                        // Restart the clock so the file stays in quarantine for the full period
+                        Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    } else {
+                        Files.delete(candidate.file());
+                        reclaimedBytes.increment(candidate.size());
+                    }
+                    if (thumbnailService.isImage(name)) {
+                        thumbnailService.deleteThumbnails(name);
+                    }
+                    removed++;
+                    bytes += candidate.size();
+                    collectedFiles.increment();
+                } catch (IOException e) {
+                    logger.warn("Could not collect unreferenced upload {}: {}", name, e.getMessage());
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private record Candidate(Path file, long size) {}
+}
@@ -1,7 +1,9 @@
 package com.ssn.faculty.service;
 
+import com.ssn.faculty.config.ReadFromReplica;
 import com.ssn.faculty.dto.LoginRequest;
 import com.ssn.faculty.dto.LoginResponse;
+import com.ssn.faculty.dto.PendingUserSummary;
 import com.ssn.faculty.entity.Role;
 import com.ssn.faculty.entity.User;
 import com.ssn.faculty.entity.FacultyProfile;
@@ -11,6 +13,7 @@ import com.ssn.faculty.security.UserPrincipal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,6 +22,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -102,14 +108,31 @@ public class UserService {
         return savedUser;
     }
     
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
     
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
     
+    @ReadFromReplica
+    @Transactional(readOnly = true)
+    public List<PendingUserSummary> findPendingApproval(Long afterId, int limit) {
+        return userRepository.findPendingApproval(afterId != null ? afterId : 0L, PageRequest.of(0, limit));
+    }
+    
+    public int approveUsers(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        int approved = userRepository.approveUsers(ids, LocalDateTime.now());
+        logger.info("Approved {} of {} requested users", approved, ids.size());
+        return approved;
+    }
+    
     public User updateUser(User user) {
         return userRepository.save(user);
     }
@@ -0,0 +1,138 @@
+-- Schema as previously created by Hibernate's ddl-auto plus schema.sql. Databases created that way
+-- are baselined at version 0 (spring.flyway.baseline-on-migrate) and run this script too, so every
+-- statement only creates what is missing; V2 then brings their data up to date.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                bigserial    NOT NULL,
+    email             varchar(255) NOT NULL,
+    password          varchar(255) NOT NULL,
+    phone_number      varchar(255),
+    role              varchar(255) NOT NULL CHECK (role IN ('STAFF', 'MANAGER')),
+    is_active         boolean,
+    is_approved       boolean,
+    is_email_verified boolean,
+    created_at        timestamp(6),
+    updated_at        timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+-- Admin approval queue: only the handful of verified-but-unapproved users are indexed, ordered by
+-- id for keyset pagination, with email/created_at included so the page is an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_users_pending_approval
+    ON users (id) INCLUDE (email, created_at)
+    WHERE is_email_verified = true AND is_approved = false;
+
+CREATE TABLE IF NOT EXISTS faculty_profiles (
+    id              bigserial    NOT NULL,
+    user_id         bigint       NOT NULL,
+    name            varchar(255) NOT NULL,
+    department      varchar(255) NOT NULL,
+    role            varchar(255),
+    date_of_joining varchar(255),
+    bio             text,
+    qualifications  text,
+    experience      text,
+    research        text,
+    is_locked       boolean,
+    lock_expiry     timestamp(6),
+    edit_requested  boolean,
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_faculty_profiles_user UNIQUE (user_id),
+    CONSTRAINT fk_faculty_profiles_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS profile_documents (
+    id           bigserial    NOT NULL,
+    profile_id   bigint       NOT NULL,
+    slot         varchar(40)  NOT NULL CHECK (slot IN (
+        'PROFILE_PIC', 'TENTH_CERT', 'TWELFTH_CERT', 'APPOINTMENT_ORDER', 'JOINING_REPORT',
+        'UG_DEGREE', 'PG_MS_CONSOLIDATED', 'PHD_DEGREE', 'JOURNALS_LIST', 'CONFERENCES_LIST',
+        'AU_SUPERVISOR_LETTER', 'FDP_WORKSHOPS_WEBINARS', 'NPTEL_COURSERA', 'INVITED_TALKS',
+        'PROJECTS_SANCTION', 'CONSULTANCY', 'PATENT', 'COMMUNITY_CERT', 'AADHAR', 'PAN')),
+    storage_key  varchar(255) NOT NULL,
+    size_bytes   bigint,
+    sha256       varchar(64),
+    content_type varchar(100),
+    uploaded_at  timestamp(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_profile_documents_profile_slot UNIQUE (profile_id, slot),
+    CONSTRAINT fk_profile_documents_profile FOREIGN KEY (profile_id) REFERENCES faculty_profiles
+);
+
+CREATE TABLE IF NOT EXISTS email_verification_tokens (
+    id         bigserial    NOT NULL,
+    user_id    bigint       NOT NULL,
+    token      varchar(255) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    created_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_email_verification_tokens_user UNIQUE (user_id),
+    CONSTRAINT uk_email_verification_tokens_token UNIQUE (token),
+    CONSTRAINT fk_email_verification_tokens_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS password_reset_tokens (
+    id         bigserial    NOT NULL,
+    user_id    bigint       NOT NULL,
+    token      varchar(255) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    used_at    timestamp(6),
+    created_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_tokens_user UNIQUE (user_id),
+    CONSTRAINT uk_password_reset_tokens_token UNIQUE (token),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS email_otps (
+    id         bigserial    NOT NULL,
+    user_id    bigint       NOT NULL,
+    otp_code   varchar(255) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    created_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_email_otps_user UNIQUE (user_id),
+    CONSTRAINT fk_email_otps_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS email_rate_limits (
+    id              bigserial    NOT NULL,
+    identifier      varchar(255) NOT NULL,
+    identifier_type varchar(255) NOT NULL,
+    email_type      varchar(255) NOT NULL,
+    count           integer      NOT NULL,
+    window_start    timestamp(6) NOT NULL,
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    PRIMARY KEY (id)
+);
+
+-- Ids are handed out in blocks of 50 (allocationSize on EmailAuditLog)
+CREATE SEQUENCE IF NOT EXISTS email_audit_log_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS email_audit_log (
+    id              bigint       NOT NULL,
+    user_id         bigint,
+    recipient_email varchar(255) NOT NULL,
+    email_type      varchar(255) NOT NULL,
+    status          varchar(255) NOT NULL,
+    error_message   text,
+    ip_address      varchar(255),
+    user_agent      varchar(255),
+    sent_at         timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_email_audit_log_user FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS email_stats_hourly (
+    id          bigserial    NOT NULL,
+    bucket_hour timestamp(6) NOT NULL,
+    email_type  varchar(255) NOT NULL,
+    status      varchar(255) NOT NULL,
+    event_count bigint       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_email_stats_hourly_bucket UNIQUE (bucket_hour, email_type, status)
+);
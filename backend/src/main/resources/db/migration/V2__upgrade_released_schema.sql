@@ -0,0 +1,100 @@
+-- Brings a database created by the released version (Hibernate ddl-auto update, no schema.sql) up
+-- to the V1 schema and moves its data over. Does nothing on a database V1 created from scratch, and
+-- also repairs databases that were baselined at version 1 and so never ran V1's CREATE statements.
+
+CREATE TABLE IF NOT EXISTS profile_documents (
+    id           bigserial    NOT NULL,
+    profile_id   bigint       NOT NULL,
+    slot         varchar(40)  NOT NULL CHECK (slot IN (
+        'PROFILE_PIC', 'TENTH_CERT', 'TWELFTH_CERT', 'APPOINTMENT_ORDER', 'JOINING_REPORT',
+        'UG_DEGREE', 'PG_MS_CONSOLIDATED', 'PHD_DEGREE', 'JOURNALS_LIST', 'CONFERENCES_LIST',
+        'AU_SUPERVISOR_LETTER', 'FDP_WORKSHOPS_WEBINARS', 'NPTEL_COURSERA', 'INVITED_TALKS',
+        'PROJECTS_SANCTION', 'CONSULTANCY', 'PATENT', 'COMMUNITY_CERT', 'AADHAR', 'PAN')),
+    storage_key  varchar(255) NOT NULL,
+    size_bytes   bigint,
+    sha256       varchar(64),
+    content_type varchar(100),
+    uploaded_at  timestamp(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_profile_documents_profile_slot UNIQUE (profile_id, slot),
+    CONSTRAINT fk_profile_documents_profile FOREIGN KEY (profile_id) REFERENCES faculty_profiles
+);
+
+CREATE TABLE IF NOT EXISTS email_stats_hourly (
+    id          bigserial    NOT NULL,
+    bucket_hour timestamp(6) NOT NULL,
+    email_type  varchar(255) NOT NULL,
+    status      varchar(255) NOT NULL,
+    event_count bigint       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_email_stats_hourly_bucket UNIQUE (bucket_hour, email_type, status)
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_pending_approval
+    ON users (id) INCLUDE (email, created_at)
+    WHERE is_email_verified = true AND is_approved = false;
+
+-- email_audit_log moved from IDENTITY to a pooled sequence; start the sequence past existing ids
+-- and never move it backwards, so blocks already handed out to a running instance stay unique.
+CREATE SEQUENCE IF NOT EXISTS email_audit_log_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('email_audit_log_seq',
+              GREATEST((SELECT last_value FROM email_audit_log_seq),
+                       (SELECT COALESCE(MAX(id), 0) + 50 FROM email_audit_log)));
+
+-- Seed the hourly email rollups from the raw audit log if nothing has been rolled up yet.
+-- Afterwards AuditLogWriter keeps them up to date incrementally.
+INSERT INTO email_stats_hourly (bucket_hour, email_type, status, event_count)
+SELECT date_trunc('hour', sent_at), email_type, status, COUNT(*)
+FROM email_audit_log
+WHERE sent_at IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM email_stats_hourly)
+GROUP BY 1, 2, 3;
+
+-- Documents moved from one column per slot on faculty_profiles to profile_documents. Copy any
+-- column that still exists into the new table, then drop it; size and checksum are filled in
+-- from disk by DocumentMetadataBackfill after startup.
+DO $$
+DECLARE
+    legacy RECORD;
+BEGIN
+    FOR legacy IN
+        SELECT c.column_name, v.slot
+        FROM (VALUES
+            ('profile_pic', 'PROFILE_PIC'),
+            ('tenth_cert', 'TENTH_CERT'),
+            ('twelfth_cert', 'TWELFTH_CERT'),
+            ('appointment_order', 'APPOINTMENT_ORDER'),
+            ('joining_report', 'JOINING_REPORT'),
+            ('ug_degree', 'UG_DEGREE'),
+            ('pg_ms_consolidated', 'PG_MS_CONSOLIDATED'),
+            ('phd_degree', 'PHD_DEGREE'),
+            ('journals_list', 'JOURNALS_LIST'),
+            ('conferences_list', 'CONFERENCES_LIST'),
+            ('au_supervisor_letter', 'AU_SUPERVISOR_LETTER'),
+            ('fdp_workshops_webinars', 'FDP_WORKSHOPS_WEBINARS'),
+            ('nptel_coursera', 'NPTEL_COURSERA'),
+            ('invited_talks', 'INVITED_TALKS'),
+            ('projects_sanction', 'PROJECTS_SANCTION'),
+            ('consultancy', 'CONSULTANCY'),
+            ('patent', 'PATENT'),
+            ('community_cert', 'COMMUNITY_CERT'),
+            ('aadhar', 'AADHAR'),
+            ('pan', 'PAN')
+        ) AS v(column_name, slot)
+        JOIN information_schema.columns c
+          ON c.table_schema = current_schema()
+         AND c.table_name = 'faculty_profiles'
+         AND c.column_name = v.column_name
+    LOOP
+        EXECUTE format(
+            'INSERT INTO profile_documents (profile_id, slot, storage_key, uploaded_at)
+             SELECT id, %L, %I, COALESCE(updated_at, now())
+             FROM faculty_profiles
+             WHERE %I IS NOT NULL AND length(trim(%I)) > 0
+             ON CONFLICT (profile_id, slot) DO NOTHING',
+            legacy.slot, legacy.column_name, legacy.column_name, legacy.column_name);
+        EXECUTE format('ALTER TABLE faculty_profiles DROP COLUMN %I', legacy.column_name);
+    END LOOP;
+END
+$$;
@@ -0,0 +1,3 @@
+-- Every /files/download looks up the stored content type by storage key (FileController)
+CREATE INDEX IF NOT EXISTS idx_profile_documents_storage_key
+    ON profile_documents (storage_key);
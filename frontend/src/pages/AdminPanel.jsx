@@ -13,7 +13,8 @@ const AdminPanel = () => {
   const queryClient = useQueryClient();
 
   const { data: profiles, isLoading } = useQuery('profiles', profileAPI.getAll);
-  const { data: pendingUsers } = useQuery('pending-users', () => api.get('/admin/pending-users').then(res => res.data));
+  const { data: pendingPage } = useQuery('pending-users', () => api.get('/admin/pending-users').then(res => res.data));
+  const pendingUsers = pendingPage?.items || [];
 
   const lockAllMutation = useMutation((lock) => profileAPI.lockAll(lock), {
     onSuccess: () => { queryClient.invalidateQueries('profiles'); toast.success('All profiles updated successfully'); },
@@ -94,7 +95,7 @@ const AdminPanel = () => {
           <CardContent className="flex items-center gap-4 p-4">
             <div className="text-foreground"><FaUserPlus /></div>
             <div>
-              <div className="text-xl font-semibold">{pendingUsers?.length || 0}</div>
+              <div className="text-xl font-semibold">{pendingUsers.length}{pendingPage?.nextCursor ? '+' : ''}</div>
               <div className="text-xs text-muted-foreground">Pending Approvals</div>
             </div>
           </CardContent>
@@ -155,9 +156,23 @@ const AdminPanel = () => {
         </div>
       )}
 
-      {pendingUsers?.length > 0 && (
+      {pendingUsers.length > 0 && (
         <div className="mt-8">
-          <h3 className="mb-2 text-lg font-medium">Pending User Approvals</h3>
+          <div className="mb-2 flex items-center justify-between">
+            <h3 className="text-lg font-medium">Pending User Approvals</h3>
+            <Button
+              variant="secondary"
+              size="sm"
+              onClick={async () => {
+                await api.post('/admin/approve-users', { ids: pendingUsers.map(u => u.id) });
+                toast.success('Users approved');
+                queryClient.invalidateQueries('pending-users');
+              }}
+            >
+              <FaCheck />
+              Approve All
+            </Button>
+          </div>
           <div className="space-y-2">
             {pendingUsers.map(u => (
               <Card key={u.id}>
@@ -77,7 +77,7 @@ const ProfileDetail = () => {
           <CardContent className="p-6">
             <div className="flex flex-col items-center">
               {profile.profilePic ? (
-                <img className="mb-3 h-32 w-32 rounded-full object-cover" src={`${process.env.REACT_APP_API_URL || 'http://localhost:8080/api'}/files/download/${profile.profilePic.replace('/uploads/', '')}?v=${profile.updatedAt || Date.now()}`} alt={profile.name} />
+                <img className="mb-3 h-32 w-32 rounded-full object-cover" src={`${process.env.REACT_APP_API_URL || 'http://localhost:8080/api'}/files/thumb/128/${profile.profilePic.replace('/uploads/', '')}`} srcSet={`${process.env.REACT_APP_API_URL || 'http://localhost:8080/api'}/files/thumb/256/${profile.profilePic.replace('/uploads/', '')} 2x`} alt={profile.name} />
               ) : (
                 <div className="mb-3 flex h-32 w-32 items-center justify-center rounded-full border"><FaUser className="text-2xl" /></div>
               )}
@@ -23,7 +23,14 @@ const ProfileEdit = () => {
     onSuccess: (data) => { setFormData({ name: data.name || '', bio: data.bio || '', qualifications: data.qualifications || '', experience: data.experience || '', research: data.research || '', email: data.email || '', phoneNumber: data.phoneNumber || '' }); },
   });
 
-  const updateMutation = useMutation((data) => profileAPI.update(id, data, Object.values(files).filter(Boolean)), {
+  const updateMutation = useMutation(async (data) => {
+    const updated = await profileAPI.update(id, data);
+    // Each file goes straight to its own document slot; one at a time since they update the same profile
+    for (const [slot, file] of Object.entries(files)) {
+      if (file) await profileAPI.uploadDocument(id, slot, file);
+    }
+    return updated;
+  }, {
     onSuccess: async () => {
       await queryClient.invalidateQueries(['profile', id]);
       await queryClient.invalidateQueries('profiles');
@@ -45,9 +52,7 @@ const ProfileEdit = () => {
   const handleFileChange = (e) => {
     const { name, files: fileList } = e.target;
     if (fileList && fileList[0]) {
-      const originalFile = fileList[0];
-      const newFile = new File([originalFile], `${name}_${originalFile.name}`, { type: originalFile.type, lastModified: originalFile.lastModified });
-      setFiles({ ...files, [name]: newFile });
+      setFiles({ ...files, [name]: fileList[0] });
     }
   };
 
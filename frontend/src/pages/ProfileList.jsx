@@ -84,7 +84,9 @@ const ProfileList = () => {
                       {profile.profilePic ? (
                         <img
                           className="h-16 w-16 object-cover"
-                          src={`${process.env.REACT_APP_API_URL || 'http://localhost:8080/api'}/files/download/${profile.profilePic.replace('/uploads/', '')}?v=${profile.updatedAt || Date.now()}`}
+                          src={`${process.env.REACT_APP_API_URL || 'http://localhost:8080/api'}/files/thumb/64/${profile.profilePic.replace('/uploads/', '')}`}
+                          srcSet={`${process.env.REACT_APP_API_URL || 'http://localhost:8080/api'}/files/thumb/128/${profile.profilePic.replace('/uploads/', '')} 2x`}
+                          loading="lazy"
                           alt={profile.name}
                           onError={(e) => { e.currentTarget.style.display = 'none'; e.currentTarget.nextSibling.style.display = 'flex'; }}
                         />
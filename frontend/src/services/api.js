@@ -132,6 +132,17 @@ export const profileAPI = {
   removeFile: (id, fileType) => 
     api.delete(`/profiles/${id}/files/${fileType}`).then(res => res.data),
   
+  uploadDocument: (id, slot, file) => {
+    const formData = new FormData();
+    formData.append('file', file);
+    
+    return api.put(`/profiles/${id}/documents/${slot}`, formData, {
+      headers: {
+        'Content-Type': 'multipart/form-data',
+      },
+    }).then(res => res.data);
+  },
+  
   addFaculty: (facultyData) => 
     api.post('/profiles/add-faculty', facultyData).then(res => res.data),
 };